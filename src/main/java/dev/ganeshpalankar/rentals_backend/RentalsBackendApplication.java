@@ -2,8 +2,10 @@ package dev.ganeshpalankar.rentals_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class RentalsBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,68 @@
+package dev.ganeshpalankar.rentals_backend.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for read-only transactions. The primary is still configured under {@code spring.datasource}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Route read-only transactions to the replicas. When disabled, everything uses the primary.
+     */
+    private boolean enabled = false;
+
+    private List<Replica> instances = new ArrayList<>();
+
+    /**
+     * Connection pool size of each replica.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * How long to wait for a replica connection before falling back to the primary.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How often unhealthy replicas are probed, and healthy ones re-checked.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long a replica may take to answer a health check.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * After a user writes (e.g. signs up), their reads go to the primary for this long,
+     * so they see their own writes despite replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        /**
+         * Defaults to the primary's username.
+         */
+        private String username;
+
+        /**
+         * Defaults to the primary's password.
+         */
+        private String password;
+    }
+}
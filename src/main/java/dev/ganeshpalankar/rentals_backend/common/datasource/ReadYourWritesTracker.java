@@ -0,0 +1,32 @@
+package dev.ganeshpalankar.rentals_backend.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers which users wrote recently, so their reads can be kept on the primary until the replicas
+ * have caught up. Entries expire after {@link ReadReplicaProperties#getReadYourWritesWindow()}.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(ReadReplicaProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+    }
+
+    /**
+     * Record that {@code subject} just wrote to the primary.
+     */
+    public void recordWrite(String subject) {
+        recentWriters.put(subject, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String subject) {
+        return subject != null && recentWriters.getIfPresent(subject) != null;
+    }
+}
@@ -0,0 +1,158 @@
+package dev.ganeshpalankar.rentals_backend.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * DataSource for read-only work: hands out connections from the healthy replicas in turn, and from the
+ * primary when no replica is healthy, when a replica fails to hand out a connection, or while
+ * {@code pinnedToPrimary} says the caller must read its own writes.
+ * <p>
+ * Replicas are checked in the background with {@link Connection#isValid(int)}. A replica that fails a check or
+ * a connection attempt is taken out of rotation until a later check succeeds.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final BooleanSupplier pinnedToPrimary;
+    private final int healthCheckTimeoutSeconds;
+    private final ScheduledExecutorService healthChecker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile Replica[] healthy;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<? extends DataSource> replicas,
+                                    BooleanSupplier pinnedToPrimary,
+                                    Duration healthCheckInterval,
+                                    Duration healthCheckTimeout) {
+        this.primary = primary;
+        this.pinnedToPrimary = pinnedToPrimary;
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica(i, replicas.get(i)));
+        }
+        // Assume replicas are healthy until a check or a connection attempt says otherwise
+        this.healthy = this.replicas.toArray(Replica[]::new);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("replica-health-check").daemon().unstarted(runnable));
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    /**
+     * Routed like {@link #getConnection()}, with the given credentials in place of the configured ones.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionFactory factory) throws SQLException {
+        if (!pinnedToPrimary.getAsBoolean()) {
+            Replica[] candidates = healthy;
+            if (candidates.length > 0) {
+                Replica replica = candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+                try {
+                    return factory.open(replica.dataSource());
+                } catch (SQLFeatureNotSupportedException ex) {
+                    // E.g. a pool asked for other credentials: the replica is fine, the request isn't
+                    throw ex;
+                } catch (SQLException ex) {
+                    log.warn("Read replica {} failed to hand out a connection, reading from the primary: {}",
+                            replica.index(), ex.getMessage());
+                    markUnhealthy(replica);
+                }
+            }
+        }
+        return factory.open(primary);
+    }
+
+    /**
+     * Whether the replica at {@code index} is currently in rotation.
+     */
+    public boolean isHealthy(int index) {
+        for (Replica replica : healthy) {
+            if (replica.index() == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void checkHealth() {
+        List<Replica> stillHealthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            boolean wasHealthy = isHealthy(replica.index());
+            boolean valid = isValid(replica);
+            if (valid) {
+                stillHealthy.add(replica);
+            }
+            if (valid != wasHealthy) {
+                log.warn("Read replica {} is now {}", replica.index(), valid ? "healthy" : "unhealthy");
+            }
+        }
+        healthy = stillHealthy.toArray(Replica[]::new);
+    }
+
+    private boolean isValid(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            return connection.isValid(healthCheckTimeoutSeconds);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private synchronized void markUnhealthy(Replica failed) {
+        List<Replica> remaining = new ArrayList<>(healthy.length);
+        for (Replica replica : healthy) {
+            if (replica != failed) {
+                remaining.add(replica);
+            }
+        }
+        healthy = remaining.toArray(Replica[]::new);
+    }
+
+    /**
+     * Stop health checks and close the replica pools.
+     */
+    @Override
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private record Replica(int index, DataSource dataSource) {
+    }
+}
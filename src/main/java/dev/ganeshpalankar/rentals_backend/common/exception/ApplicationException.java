@@ -1,3 +1,29 @@
 package dev.ganeshpalankar.rentals_backend.common.exception;
 
-public class ApplicationException extends RuntimeException { }
+/**
+ * Base class for exceptions thrown on expected paths and mapped to an error response by an
+ * {@link ExceptionResponseHandler}.
+ * <p>
+ * These are control flow rather than bugs, so by default they are created without a stack trace:
+ * filling one in walks the whole servlet and security filter stack and dominates the cost of
+ * rejecting a request. Set {@code rentals.exceptions.stack-traces=true} to capture them when debugging.
+ */
+public class ApplicationException extends RuntimeException {
+
+    private static volatile boolean stackTracesEnabled = false;
+
+    public ApplicationException() {
+        super(null, null, false, stackTracesEnabled);
+    }
+
+    /**
+     * Whether application exceptions created from now on record their stack trace.
+     */
+    public static void setStackTracesEnabled(boolean enabled) {
+        stackTracesEnabled = enabled;
+    }
+
+    public static boolean isStackTracesEnabled() {
+        return stackTracesEnabled;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@link ApplicationExceptionProperties} at startup. Exceptions are created with {@code new}
+ * throughout the code base, so the switch is a static flag rather than an injected setting.
+ */
+@Configuration
+public class ApplicationExceptionConfig {
+
+    public ApplicationExceptionConfig(ApplicationExceptionProperties properties) {
+        ApplicationException.setStackTracesEnabled(properties.isStackTraces());
+    }
+}
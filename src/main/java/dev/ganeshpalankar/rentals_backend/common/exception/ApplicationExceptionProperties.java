@@ -0,0 +1,20 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for {@link ApplicationException}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.exceptions")
+public class ApplicationExceptionProperties {
+
+    /**
+     * Record stack traces for application exceptions. Off by default because they are thrown on
+     * expected paths, such as every request from an unregistered user.
+     */
+    private boolean stackTraces = false;
+}
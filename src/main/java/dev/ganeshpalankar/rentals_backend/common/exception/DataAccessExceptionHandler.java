@@ -0,0 +1,75 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseTemplate;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Exception handler for failures to obtain a database connection.
+ * When the connection pool is saturated, requests wait up to the pool's connection timeout and then
+ * fail here with 503 and {@code Retry-After}, so clients back off instead of piling on. Filters that reach the
+ * database before MVC, such as the registration check, answer the same way from {@link #TEMPLATE}.
+ */
+@ControllerAdvice
+public class DataAccessExceptionHandler {
+
+    private static final int STATUS = 503;
+    private static final String MESSAGE = "Service temporarily unavailable";
+    private static final String CODE = "DATABASE_BUSY";
+    private static final ErrorType TYPE = ErrorType.SERVER_ERROR;
+
+    public static final String RETRY_AFTER_SECONDS = "1";
+    public static final String DETAILS = "No database connection became available in time. Please retry.";
+
+    /**
+     * Pre-encoded form of the response, used where requests fail to get a connection before reaching a controller.
+     */
+    public static final ErrorResponseTemplate TEMPLATE = ErrorResponseTemplate.of(STATUS, MESSAGE, CODE, TYPE);
+
+    private final ErrorMetrics errorMetrics;
+
+    public DataAccessExceptionHandler(ErrorMetrics errorMetrics) {
+        this.errorMetrics = errorMetrics;
+    }
+
+    /**
+     * Handle connection acquisition failures, from JPA transactions and from plain JDBC access.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(
+            Exception ex,
+            HttpServletRequest request) {
+
+        // Build error detail
+        ErrorDetail errorDetail = new ErrorDetail();
+        errorDetail.setCode(CODE);
+        errorDetail.setType(TYPE.toString());
+        errorDetail.setDetails(DETAILS);
+
+        // Build error response
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setStatus(STATUS);
+        errorResponse.setMessage(MESSAGE);
+        errorResponse.setError(errorDetail);
+        errorResponse.setPath(request.getRequestURI());
+        errorResponse.setMethod(request.getMethod());
+        errorResponse.setFieldErrors(new ArrayList<>());
+        errorResponse.setTimestamp(Instant.now());
+
+        errorMetrics.record(errorDetail.getType(), errorDetail.getCode());
+        return ResponseEntity.status(STATUS)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(errorResponse);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of every {@link ExceptionResponseHandler} bean, keyed by the exception type it handles.
+ * An exception is handled by the handler registered for its own class or, failing that, its closest superclass.
+ * The result of that walk is cached per exception class in a {@link ClassValue}, so after the first
+ * occurrence of an exception type a lookup is a single field read with no reflection.
+ */
+@Component
+public class ExceptionHandlerRegistry {
+
+    private final Map<Class<?>, ExceptionResponseHandler<?>> handlersByType;
+
+    private final ClassValue<Optional<ExceptionResponseHandler<Exception>>> resolvedHandlers = new ClassValue<>() {
+        @Override
+        protected Optional<ExceptionResponseHandler<Exception>> computeValue(Class<?> type) {
+            return Optional.ofNullable(resolve(type));
+        }
+    };
+
+    public ExceptionHandlerRegistry(List<ExceptionResponseHandler<?>> handlers) {
+        this.handlersByType = new HashMap<>();
+        for (ExceptionResponseHandler<?> handler : handlers) {
+            Class<?> exceptionType = handledExceptionType(handler);
+            ExceptionResponseHandler<?> existing = handlersByType.putIfAbsent(exceptionType, handler);
+            if (existing != null) {
+                throw new IllegalStateException(String.format(
+                        "Both %s and %s handle %s",
+                        existing.getClass().getName(), handler.getClass().getName(), exceptionType.getName()));
+            }
+        }
+    }
+
+    /**
+     * Find the handler for an exception type.
+     *
+     * @param exceptionType the class of the thrown exception
+     * @return the handler registered for the type or its closest superclass, or null if there is none
+     */
+    public ExceptionResponseHandler<Exception> findHandler(Class<? extends Exception> exceptionType) {
+        return resolvedHandlers.get(exceptionType).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExceptionResponseHandler<Exception> resolve(Class<?> type) {
+        for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+            ExceptionResponseHandler<?> handler = handlersByType.get(candidate);
+            if (handler != null) {
+                return (ExceptionResponseHandler<Exception>) handler;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> handledExceptionType(ExceptionResponseHandler<?> handler) {
+        Class<?> handlerClass = ClassUtils.getUserClass(handler);
+        ResolvableType handlerType = ResolvableType.forClass(handlerClass).as(ExceptionResponseHandler.class);
+        // Lambdas and raw implementations would otherwise resolve to the bound and claim every Exception
+        Class<?> exceptionType = handlerType.hasUnresolvableGenerics() ? null : handlerType.resolveGeneric(0);
+        if (exceptionType == null) {
+            throw new IllegalStateException(
+                    "Cannot determine the exception type handled by " + handlerClass.getName()
+                            + "; implement ExceptionResponseHandler with a concrete type argument");
+        }
+        return exceptionType;
+    }
+}
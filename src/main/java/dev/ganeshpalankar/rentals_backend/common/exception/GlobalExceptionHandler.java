@@ -1,55 +1,53 @@
 package dev.ganeshpalankar.rentals_backend.common.exception;
 
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
 import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
 import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
-import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsException;
-import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsExceptionHandler;
-import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
-import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredExceptionHandler;
-import org.springframework.http.ResponseEntity;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseWriter;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
- * Global exception handler with manual mapping of exceptions to their handlers.
+ * Global exception handler that delegates to the {@link ExceptionResponseHandler} registered for the exception type.
  * Only handles application-specific exceptions that extend ApplicationException.
+ * Responses are written through {@link ErrorResponseWriter}, the same path used by the security filters.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    private final Map<Class<? extends ApplicationException>, ExceptionResponseHandler<?>> handlerMap;
+    private final ExceptionHandlerRegistry exceptionHandlerRegistry;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorMetrics errorMetrics;
 
-    public GlobalExceptionHandler() {
-        this.handlerMap = new HashMap<>();
-        initializeHandlers();
-    }
-
-    private void initializeHandlers() {
-        // Manual mapping of exceptions to their handlers
-        handlerMap.put(UserAlreadyExistsException.class, new UserAlreadyExistsExceptionHandler());
-        handlerMap.put(ResourceNotFoundException.class, new ResourceNotFountExceptionHandler());
+    public GlobalExceptionHandler(ExceptionHandlerRegistry exceptionHandlerRegistry,
+                                  ErrorResponseWriter errorResponseWriter,
+                                  ErrorMetrics errorMetrics) {
+        this.exceptionHandlerRegistry = exceptionHandlerRegistry;
+        this.errorResponseWriter = errorResponseWriter;
+        this.errorMetrics = errorMetrics;
     }
 
     @ExceptionHandler(ApplicationException.class)
-    public ResponseEntity<ErrorResponse> handleException(ApplicationException ex, HttpServletRequest request) {
-        ExceptionResponseHandler<ApplicationException> handler = (ExceptionResponseHandler<ApplicationException>) handlerMap.get(ex.getClass());
-
-        if (handler != null) {
-            ErrorResponse errorResponse = handler.handle(ex, request);
-            return ResponseEntity.status(errorResponse.getStatus()).body(errorResponse);
-        }
+    public void handleException(ApplicationException ex,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        ExceptionResponseHandler<Exception> handler = exceptionHandlerRegistry.findHandler(ex.getClass());
 
         // Fallback for unmapped application exceptions
-        return handleGenericException(ex, request);
+        ErrorResponse errorResponse = handler != null
+                ? handler.handle(ex, request)
+                : handleGenericException(ex, request);
+        errorResponseWriter.write(response, errorResponse);
+        errorMetrics.record(errorResponse.getError().getType(), errorResponse.getError().getCode());
     }
 
-    private ResponseEntity<ErrorResponse> handleGenericException(ApplicationException ex, HttpServletRequest request) {
+    private ErrorResponse handleGenericException(ApplicationException ex, HttpServletRequest request) {
         ErrorDetail errorDetail = new ErrorDetail();
         errorDetail.setCode("INTERNAL_ERROR");
         errorDetail.setType(ErrorType.SERVER_ERROR.toString());
@@ -64,6 +62,6 @@ public class GlobalExceptionHandler {
         errorResponse.setFieldErrors(new ArrayList<>());
         errorResponse.setTimestamp(Instant.now());
 
-        return ResponseEntity.status(500).body(errorResponse);
+        return errorResponse;
     }
 }
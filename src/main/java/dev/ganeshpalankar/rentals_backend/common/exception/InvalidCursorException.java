@@ -0,0 +1,16 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a pagination cursor sent by the client cannot be decoded.
+ */
+@Getter
+public class InvalidCursorException extends ApplicationException {
+    private final String cursor;
+
+    public InvalidCursorException(String cursor) {
+        super();
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+@Component
+public class InvalidCursorExceptionHandler implements ExceptionResponseHandler<InvalidCursorException> {
+
+    @Override
+    public ErrorResponse handle(InvalidCursorException exception, HttpServletRequest request) {
+        ErrorDetail errorDetail = new ErrorDetail();
+        errorDetail.setCode("INVALID_CURSOR");
+        errorDetail.setType(ErrorType.VALIDATION_ERROR.toString());
+        errorDetail.setDetails("The cursor is malformed. Start again from the first page.");
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setStatus(400);
+        errorResponse.setMessage("Invalid pagination cursor");
+        errorResponse.setError(errorDetail);
+        errorResponse.setPath(request.getRequestURI());
+        errorResponse.setMethod(request.getMethod());
+        errorResponse.setFieldErrors(new ArrayList<>());
+        errorResponse.setTimestamp(Instant.now());
+
+        return errorResponse;
+    }
+}
@@ -0,0 +1,57 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Exception handler for optimistic locking conflicts that were not resolved by retrying.
+ * The request was based on a version of the resource that has since changed; the client should reload it
+ * and decide whether to apply its change again.
+ */
+@ControllerAdvice
+public class OptimisticLockExceptionHandler {
+
+    private final ErrorMetrics errorMetrics;
+
+    public OptimisticLockExceptionHandler(ErrorMetrics errorMetrics) {
+        this.errorMetrics = errorMetrics;
+    }
+
+    /**
+     * Handle conflicts as translated by Spring, and raw JPA ones thrown outside of repositories.
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponse> handleOptimisticLockConflict(
+            RuntimeException ex,
+            HttpServletRequest request) {
+
+        // Build error detail
+        ErrorDetail errorDetail = new ErrorDetail();
+        errorDetail.setCode("CONCURRENT_MODIFICATION");
+        errorDetail.setType(ErrorType.CLIENT_ERROR.toString());
+        errorDetail.setDetails("The resource was changed by another request. Reload it and try again.");
+
+        // Build error response
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setStatus(409);
+        errorResponse.setMessage("Conflicting concurrent update");
+        errorResponse.setError(errorDetail);
+        errorResponse.setPath(request.getRequestURI());
+        errorResponse.setMethod(request.getMethod());
+        errorResponse.setFieldErrors(new ArrayList<>());
+        errorResponse.setTimestamp(Instant.now());
+
+        errorMetrics.record(errorDetail.getType(), errorDetail.getCode());
+        return ResponseEntity.status(409).body(errorResponse);
+    }
+}
@@ -1,8 +1,10 @@
 package dev.ganeshpalankar.rentals_backend.common.exception;
 
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
 import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
 import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
 import dev.ganeshpalankar.rentals_backend.common.response.FieldError;
+import dev.ganeshpalankar.rentals_backend.common.validation.ValidationProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -14,20 +16,34 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.lang.reflect.Array;
 import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * Exception handler for validation-related exceptions.
  * Handles @Valid and @Validated validation errors.
+ * The number of reported fields and the size of echoed rejected values are capped by {@link ValidationProperties},
+ * so the cost of an error response doesn't grow with the size of a bad bulk payload.
  */
 @ControllerAdvice
 public class ValidationExceptionHandler {
 
+    private final ValidationProperties validationProperties;
+    private final ErrorMetrics errorMetrics;
+
+    public ValidationExceptionHandler(ValidationProperties validationProperties, ErrorMetrics errorMetrics) {
+        this.validationProperties = validationProperties;
+        this.errorMetrics = errorMetrics;
+    }
+
     /**
      * Handle bean validation errors from @Valid annotation on request body.
      * Collects all field errors and returns them in a single response.
@@ -38,13 +54,13 @@ public class ValidationExceptionHandler {
             HttpServletRequest request) {
 
         // Group field errors by field name
-        List<FieldError> fieldErrors = groupFieldErrors(ex.getBindingResult().getFieldErrors());
+        GroupedFieldErrors grouped = groupFieldErrors(ex.getBindingResult().getFieldErrors());
 
         // Build error detail
         ErrorDetail errorDetail = new ErrorDetail();
         errorDetail.setCode("VALIDATION_FAILED");
         errorDetail.setType(ErrorType.VALIDATION_ERROR.toString());
-        errorDetail.setDetails(String.format("%d validation error(s) occurred", fieldErrors.size()));
+        errorDetail.setDetails(describe(grouped, ex.getBindingResult().getErrorCount()));
 
         // Build error response
         ErrorResponse errorResponse = new ErrorResponse();
@@ -53,9 +69,11 @@ public class ValidationExceptionHandler {
         errorResponse.setError(errorDetail);
         errorResponse.setPath(request.getRequestURI());
         errorResponse.setMethod(request.getMethod());
-        errorResponse.setFieldErrors(fieldErrors);
+        errorResponse.setFieldErrors(grouped.fieldErrors());
+        errorResponse.setFieldErrorsTruncated(grouped.truncated() ? Boolean.TRUE : null);
         errorResponse.setTimestamp(Instant.now());
 
+        errorMetrics.record(errorDetail.getType(), errorDetail.getCode());
         return ResponseEntity.status(400).body(errorResponse);
     }
 
@@ -68,13 +86,13 @@ public class ValidationExceptionHandler {
             HttpServletRequest request) {
 
         // Group constraint violations by field name
-        List<FieldError> fieldErrors = groupConstraintViolations(ex.getConstraintViolations());
+        GroupedFieldErrors grouped = groupConstraintViolations(ex.getConstraintViolations());
 
         // Build error detail
         ErrorDetail errorDetail = new ErrorDetail();
         errorDetail.setCode("VALIDATION_FAILED");
         errorDetail.setType(ErrorType.VALIDATION_ERROR.toString());
-        errorDetail.setDetails(String.format("%d validation error(s) occurred", fieldErrors.size()));
+        errorDetail.setDetails(describe(grouped, ex.getConstraintViolations().size()));
 
         // Build error response
         ErrorResponse errorResponse = new ErrorResponse();
@@ -83,9 +101,11 @@ public class ValidationExceptionHandler {
         errorResponse.setError(errorDetail);
         errorResponse.setPath(request.getRequestURI());
         errorResponse.setMethod(request.getMethod());
-        errorResponse.setFieldErrors(fieldErrors);
+        errorResponse.setFieldErrors(grouped.fieldErrors());
+        errorResponse.setFieldErrorsTruncated(grouped.truncated() ? Boolean.TRUE : null);
         errorResponse.setTimestamp(Instant.now());
 
+        errorMetrics.record(errorDetail.getType(), errorDetail.getCode());
         return ResponseEntity.status(400).body(errorResponse);
     }
 
@@ -112,6 +132,7 @@ public class ValidationExceptionHandler {
         errorResponse.setMethod(request.getMethod());
         errorResponse.setTimestamp(Instant.now());
 
+        errorMetrics.record(errorDetail.getType(), errorDetail.getCode());
         return ResponseEntity.status(400).body(errorResponse);
     }
 
@@ -145,6 +166,7 @@ public class ValidationExceptionHandler {
         errorResponse.setFieldErrors(new ArrayList<>());
         errorResponse.setTimestamp(Instant.now());
 
+        errorMetrics.record(errorDetail.getType(), errorDetail.getCode());
         return ResponseEntity.status(400).body(errorResponse);
     }
 
@@ -157,36 +179,13 @@ public class ValidationExceptionHandler {
      * with multiple messages.
      *
      * @param springFieldErrors List of Spring's field errors
-     * @return List of grouped FieldErrors with merged messages
+     * @return grouped FieldErrors with merged messages, capped at the configured number of fields
      */
-    private List<FieldError> groupFieldErrors(List<org.springframework.validation.FieldError> springFieldErrors) {
-        return springFieldErrors.stream()
-                .collect(Collectors.groupingBy(
-                        org.springframework.validation.FieldError::getField,
-                        LinkedHashMap::new,  // Preserve order of first occurrence
-                        Collectors.toList()
-                ))
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    String fieldName = entry.getKey();
-                    List<org.springframework.validation.FieldError> errors = entry.getValue();
-
-                    // Collect all messages for this field
-                    List<String> messages = errors.stream()
-                            .map(org.springframework.validation.FieldError::getDefaultMessage)
-                            .collect(Collectors.toList());
-
-                    // Use the rejected value from the first error
-                    Object rejectedValue = errors.get(0).getRejectedValue();
-
-                    FieldError fieldError = new FieldError();
-                    fieldError.setField(fieldName);
-                    fieldError.setMessages(messages);
-                    fieldError.setRejectedValue(rejectedValue);
-                    return fieldError;
-                })
-                .collect(Collectors.toList());
+    private GroupedFieldErrors groupFieldErrors(List<org.springframework.validation.FieldError> springFieldErrors) {
+        return group(springFieldErrors,
+                org.springframework.validation.FieldError::getField,
+                org.springframework.validation.FieldError::getDefaultMessage,
+                org.springframework.validation.FieldError::getRejectedValue);
     }
 
     /**
@@ -195,35 +194,83 @@ public class ValidationExceptionHandler {
      * with multiple messages.
      *
      * @param violations Set of constraint violations
-     * @return List of grouped FieldErrors with merged messages
+     * @return grouped FieldErrors with merged messages, capped at the configured number of fields
+     */
+    private GroupedFieldErrors groupConstraintViolations(Set<ConstraintViolation<?>> violations) {
+        return group(violations,
+                violation -> violation.getPropertyPath().toString(),
+                ConstraintViolation::getMessage,
+                ConstraintViolation::getInvalidValue);
+    }
+
+    /**
+     * Group errors by field in a single pass, preserving the order of first occurrence.
+     * Stops at the first error for a field beyond {@code maxFieldErrors}, so the work done is bounded
+     * by the cap rather than by the number of errors.
      */
-    private List<FieldError> groupConstraintViolations(Set<ConstraintViolation<?>> violations) {
-        return violations.stream()
-                .collect(Collectors.groupingBy(
-                        violation -> violation.getPropertyPath().toString(),
-                        LinkedHashMap::new,  // Preserve order of first occurrence
-                        Collectors.toList()
-                ))
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    String fieldName = entry.getKey();
-                    List<ConstraintViolation<?>> violationList = entry.getValue();
-
-                    // Collect all messages for this field
-                    List<String> messages = violationList.stream()
-                            .map(ConstraintViolation::getMessage)
-                            .collect(Collectors.toList());
-
-                    // Use the invalid value from the first violation
-                    Object rejectedValue = violationList.getFirst().getInvalidValue();
-
-                    FieldError fieldError = new FieldError();
-                    fieldError.setField(fieldName);
-                    fieldError.setMessages(messages);
-                    fieldError.setRejectedValue(rejectedValue);
-                    return fieldError;
-                })
-                .collect(Collectors.toList());
+    private <E> GroupedFieldErrors group(Iterable<E> errors,
+                                         Function<E, String> field,
+                                         Function<E, String> message,
+                                         Function<E, Object> rejectedValue) {
+        int maxFieldErrors = validationProperties.getMaxFieldErrors();
+        Map<String, FieldError> byField = new LinkedHashMap<>();
+        boolean truncated = false;
+
+        for (E error : errors) {
+            String fieldName = field.apply(error);
+            FieldError fieldError = byField.get(fieldName);
+            if (fieldError == null) {
+                if (byField.size() >= maxFieldErrors) {
+                    truncated = true;
+                    break;
+                }
+                // Use the rejected value from the first error
+                fieldError = new FieldError();
+                fieldError.setField(fieldName);
+                fieldError.setMessages(new ArrayList<>(2));
+                fieldError.setRejectedValue(truncateRejectedValue(rejectedValue.apply(error)));
+                byField.put(fieldName, fieldError);
+            }
+            fieldError.getMessages().add(message.apply(error));
+        }
+        return new GroupedFieldErrors(new ArrayList<>(byField.values()), truncated);
+    }
+
+    /**
+     * Keep simple rejected values, shorten long text and summarize collections, so a large payload
+     * isn't echoed back in the error response. Other objects are omitted.
+     */
+    private Object truncateRejectedValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof TemporalAccessor) {
+            return value;
+        }
+        if (value instanceof CharSequence text) {
+            int maxLength = validationProperties.getMaxRejectedValueLength();
+            return text.length() > maxLength
+                    ? text.subSequence(0, maxLength) + "..."
+                    : text.toString();
+        }
+        if (value instanceof Collection<?> collection) {
+            return String.format("[%d element(s)]", collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return String.format("{%d entry(ies)}", map.size());
+        }
+        if (value.getClass().isArray()) {
+            return String.format("[%d element(s)]", Array.getLength(value));
+        }
+        return null;
+    }
+
+    private static String describe(GroupedFieldErrors grouped, int errorCount) {
+        if (grouped.truncated()) {
+            return String.format("%d validation error(s) occurred; only the first %d field(s) are listed",
+                    errorCount, grouped.fieldErrors().size());
+        }
+        return String.format("%d validation error(s) occurred", grouped.fieldErrors().size());
+    }
+
+    private record GroupedFieldErrors(List<FieldError> fieldErrors, boolean truncated) {
     }
 }
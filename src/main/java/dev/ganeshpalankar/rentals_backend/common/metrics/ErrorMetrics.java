@@ -0,0 +1,48 @@
+package dev.ganeshpalankar.rentals_backend.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts error responses by {@code ErrorType} and error code, published as {@code rentals.errors}.
+ * Counters are cached per type and code so recording an error doesn't go through the registry.
+ */
+@Component
+public class ErrorMetrics {
+
+    static final String METER_NAME = "rentals.errors";
+    static final String TYPE_TAG = "type";
+    static final String CODE_TAG = "code";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<String, Counter>> countersByType = new ConcurrentHashMap<>();
+
+    public ErrorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String type, String code) {
+        String typeTag = type != null ? type : NONE;
+        String codeTag = code != null ? code : NONE;
+
+        Map<String, Counter> countersByCode = countersByType.get(typeTag);
+        if (countersByCode == null) {
+            countersByCode = countersByType.computeIfAbsent(typeTag, key -> new ConcurrentHashMap<>());
+        }
+        Counter counter = countersByCode.get(codeTag);
+        if (counter == null) {
+            counter = countersByCode.computeIfAbsent(codeTag, key -> Counter.builder(METER_NAME)
+                    .description("Error responses by error type and code")
+                    .tag(TYPE_TAG, typeTag)
+                    .tag(CODE_TAG, key)
+                    .register(meterRegistry));
+        }
+        counter.increment();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.ganeshpalankar.rentals_backend.common.metrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cardinality guards for the application's meters.
+ * Percentiles and histograms are configured under {@code management.metrics.distribution}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter errorCodeCardinalityFilter(MetricsProperties properties) {
+        return MeterFilter.maximumAllowableTags(
+                ErrorMetrics.METER_NAME, ErrorMetrics.CODE_TAG, properties.getMaxTagValues(), MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter responseUriCardinalityFilter(MetricsProperties properties) {
+        return MeterFilter.maximumAllowableTags(
+                ResponseSizeFilter.METER_NAME, ResponseSizeFilter.URI_TAG, properties.getMaxTagValues(), MeterFilter.deny());
+    }
+}
@@ -0,0 +1,20 @@
+package dev.ganeshpalankar.rentals_backend.common.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits on the application's own meters.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.metrics")
+public class MetricsProperties {
+
+    /**
+     * Maximum number of distinct values for an open-ended tag (error code, URI pattern).
+     * Meters with further values are dropped rather than registered.
+     */
+    private int maxTagValues = 100;
+}
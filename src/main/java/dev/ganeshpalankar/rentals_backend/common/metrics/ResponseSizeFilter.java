@@ -0,0 +1,169 @@
+package dev.ganeshpalankar.rentals_backend.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the size of response bodies, tagged with the matched URI pattern, as {@code rentals.http.response.size}.
+ * Bytes are counted as they are written to the response output stream, so bodies built by
+ * {@code ResponseBuilder} are measured after serialization without buffering them.
+ * Streaming responses are recorded when the async request completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResponseSizeFilter extends OncePerRequestFilter {
+
+    static final String METER_NAME = "rentals.http.response.size";
+    static final String URI_TAG = "uri";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summariesByUri = new ConcurrentHashMap<>();
+
+    public ResponseSizeFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ByteCountingResponse countingResponse = new ByteCountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnCompletion(request, countingResponse));
+            } else {
+                record(request, countingResponse);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, ByteCountingResponse response) {
+        // Raw request URIs would be unbounded, so only the pattern the request was mapped to is used
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary summary = summariesByUri.get(uri);
+        if (summary == null) {
+            summary = summariesByUri.computeIfAbsent(uri, key -> DistributionSummary.builder(METER_NAME)
+                    .description("Size of HTTP response bodies")
+                    .baseUnit("bytes")
+                    .tag(URI_TAG, key)
+                    .register(meterRegistry));
+        }
+        summary.record(response.bytesWritten);
+    }
+
+    private final class RecordOnCompletion implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final ByteCountingResponse response;
+
+        RecordOnCompletion(HttpServletRequest request, ByteCountingResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Counts the bytes written through {@link #getOutputStream()}.
+     * Bodies written through {@code getWriter()} (container error pages) aren't counted.
+     */
+    private static final class ByteCountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long bytesWritten;
+        private ServletOutputStream outputStream;
+
+        ByteCountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytesWritten++;
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                delegate.write(bytes, offset, length);
+                bytesWritten += length;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
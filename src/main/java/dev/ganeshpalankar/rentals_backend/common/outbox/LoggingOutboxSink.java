@@ -0,0 +1,24 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Records events in the log until a broker integration replaces it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "rentals.outbox", name = "sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("Outbox event {} {} for {} {}: {}", event.id(), event.eventType(), event.aggregateType(),
+                    event.aggregateId(), event.payload());
+        }
+    }
+}
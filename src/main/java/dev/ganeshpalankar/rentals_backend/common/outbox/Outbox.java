@@ -0,0 +1,182 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The transactional outbox, stored in {@code outbox_events}.
+ * <p>
+ * Domain writes {@link #append} an event in their own transaction, so an event exists exactly when the change
+ * it describes was committed, and the request never waits on the systems that consume it. The
+ * {@link OutboxRelay} claims events in batches with {@code SELECT ... FOR UPDATE SKIP LOCKED}, publishes them
+ * to the {@link OutboxSink} with no lock held, and deletes them once the sink has accepted them. A claim hides
+ * its events for the lease timeout, so events whose relay dies are published again.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, attempts,
+                                       available_at)
+            VALUES (?, ?, ?, ?, ?, 0, ?)""";
+
+    private static final String SELECT_CLAIMABLE = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at, attempts
+            FROM outbox_events
+            WHERE available_at <= ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+
+    private static final String CLAIM = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1, available_at = ?
+            WHERE id = ?""";
+
+    private static final String DELETE = """
+            DELETE FROM outbox_events
+            WHERE id = ? AND attempts = ?""";
+
+    private static final String RELEASE = """
+            UPDATE outbox_events
+            SET available_at = ?, last_error = ?
+            WHERE id = ? AND attempts = ?""";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    /**
+     * Record an event about {@code aggregateType} {@code aggregateId}, in the transaction that makes the change.
+     * {@code payload} is serialized to JSON with the application's object mapper.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_EVENT, aggregateType, String.valueOf(aggregateId), eventType,
+                toJson(eventType, payload), now, now);
+    }
+
+    /**
+     * Record one event per payload with a single batched insert, in the transaction that makes the changes.
+     * {@code aggregateId} gives the id of the aggregate each payload is about.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(String aggregateType, String eventType, List<T> payloads, Function<T, ?> aggregateId) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_EVENT, payloads, payloads.size(), (ps, payload) -> {
+            ps.setString(1, aggregateType);
+            ps.setString(2, String.valueOf(aggregateId.apply(payload)));
+            ps.setString(3, eventType);
+            ps.setString(4, toJson(eventType, payload));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * Claim up to {@code limit} of the oldest available events, hiding them from other relays for the lease
+     * timeout.
+     */
+    public List<OutboxEvent> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEvent> events = jdbcTemplate.query(SELECT_CLAIMABLE, (rs, row) -> new OutboxEvent(
+                            rs.getLong("id"),
+                            rs.getString("aggregate_type"),
+                            rs.getString("aggregate_id"),
+                            rs.getString("event_type"),
+                            rs.getString("payload"),
+                            rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                            rs.getInt("attempts") + 1),
+                    Timestamp.from(now), limit);
+            if (!events.isEmpty()) {
+                Timestamp availableAt = Timestamp.from(now.plus(properties.getLeaseTimeout()));
+                jdbcTemplate.batchUpdate(CLAIM, events, events.size(), (ps, event) -> {
+                    ps.setTimestamp(1, availableAt);
+                    ps.setLong(2, event.id());
+                });
+            }
+            return events;
+        });
+    }
+
+    /**
+     * Remove published events. Returns how many were removed; an event whose claim had expired and was claimed
+     * again is left to the newer claim.
+     */
+    public int acknowledge(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> sum(jdbcTemplate.batchUpdate(DELETE, events, events.size(),
+                (ps, event) -> {
+                    ps.setLong(1, event.id());
+                    ps.setInt(2, event.attempt());
+                })));
+    }
+
+    /**
+     * Release events the sink rejected, to be claimed again after a backoff that doubles with every attempt.
+     */
+    public int release(List<OutboxEvent> events, String error) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        String lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            return sum(jdbcTemplate.batchUpdate(RELEASE, events, events.size(), (ps, event) -> {
+                ps.setTimestamp(1, Timestamp.from(now.plus(backoff(event.attempt()))));
+                ps.setString(2, lastError);
+                ps.setLong(3, event.id());
+                ps.setInt(4, event.attempt());
+            }));
+        });
+    }
+
+    private String toJson(String eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Could not serialize " + eventType + " event", ex);
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private static int sum(int[][] batchCounts) {
+        int total = 0;
+        for (int[] counts : batchCounts) {
+            for (int count : counts) {
+                total += count;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+/**
+ * A claimed outbox event. {@code id} is unique and stable across deliveries, so consumers can use it to drop
+ * duplicates. {@code payload} is the event's JSON. {@code attempt} is the claim the event is held under; only
+ * the holder of the latest claim can acknowledge it.
+ */
+public record OutboxEvent(long id,
+                          String aggregateType,
+                          String aggregateId,
+                          String eventType,
+                          @JsonRawValue String payload,
+                          Instant createdAt,
+                          @JsonIgnore int attempt) {}
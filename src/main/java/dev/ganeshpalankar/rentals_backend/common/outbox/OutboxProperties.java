@@ -0,0 +1,58 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the transactional outbox and the relay that publishes it.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.outbox")
+public class OutboxProperties {
+
+    /**
+     * Run relay threads in this instance. Any number of instances can relay one outbox.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Relay threads per instance. With more than one, events of the same aggregate may be published out of order.
+     */
+    private int relayThreads = 1;
+
+    /**
+     * Events a relay claims and hands to the sink at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long an idle relay waits before looking for events again.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * How long a claimed event stays hidden from other relays. An event not published by then, e.g. because its
+     * relay died, is claimed and published again, so this must comfortably exceed the time to publish a batch.
+     */
+    private Duration leaseTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Delay before an event the sink rejected is retried, doubled for every further attempt up to
+     * {@link #maxBackoff}. Events are retried until the sink accepts them.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /**
+     * Where events are published: {@code log}, or {@code file} to append them to {@link #filePath} as JSON lines.
+     */
+    private String sink = "log";
+
+    private Path filePath = Path.of("data", "outbox-events.jsonl");
+}
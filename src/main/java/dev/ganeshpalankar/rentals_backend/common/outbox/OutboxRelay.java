@@ -0,0 +1,101 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims a batch of outbox events and publishes it to the {@link OutboxSink} in one call.
+ * If the sink rejects the batch, its events are published one at a time, so a single bad event is retried on
+ * its own instead of holding back the rest. Events are counted in {@code rentals.outbox.events}, tagged by
+ * outcome, and the time from append to publication is recorded in {@code rentals.outbox.lag}.
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+    static final String METER_NAME = "rentals.outbox.events";
+
+    private final Outbox outbox;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter retried;
+    private final Counter superseded;
+    private final Timer lag;
+
+    public OutboxRelay(Outbox outbox, OutboxSink sink, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.sink = sink;
+        this.properties = properties;
+        this.published = eventCounter(meterRegistry, "published");
+        this.retried = eventCounter(meterRegistry, "retried");
+        this.superseded = eventCounter(meterRegistry, "superseded");
+        this.lag = Timer.builder("rentals.outbox.lag")
+                .description("Time from appending an outbox event to its publication")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claim and publish one batch of events. Returns the number of events claimed; zero means the outbox had
+     * nothing available.
+     */
+    public int relayBatch() {
+        List<OutboxEvent> events = outbox.claim(properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(events);
+            acknowledge(events);
+        } catch (RuntimeException ex) {
+            if (events.size() == 1) {
+                release(events.getFirst(), ex);
+            } else {
+                log.warn("Publishing {} outbox events failed, publishing them one at a time: {}",
+                        events.size(), ex.toString());
+                for (OutboxEvent event : events) {
+                    try {
+                        sink.publish(List.of(event));
+                        acknowledge(List.of(event));
+                    } catch (RuntimeException eventEx) {
+                        release(event, eventEx);
+                    }
+                }
+            }
+        }
+        return events.size();
+    }
+
+    private void acknowledge(List<OutboxEvent> events) {
+        int acknowledged = outbox.acknowledge(events);
+        // An event whose claim expired while it was being published belongs to whoever claimed it next
+        published.increment(acknowledged);
+        superseded.increment(events.size() - acknowledged);
+        Instant now = Instant.now();
+        for (OutboxEvent event : events) {
+            lag.record(Duration.between(event.createdAt(), now));
+        }
+    }
+
+    private void release(OutboxEvent event, RuntimeException ex) {
+        log.warn("Publishing outbox event {} ({}) failed on attempt {}: {}",
+                event.id(), event.eventType(), event.attempt(), ex.toString());
+        int released = outbox.release(List.of(event), ex.toString());
+        retried.increment(released);
+        superseded.increment(1 - released);
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METER_NAME)
+                .description("Outbox events handled by this instance's relays")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
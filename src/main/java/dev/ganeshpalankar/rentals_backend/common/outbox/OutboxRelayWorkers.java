@@ -0,0 +1,19 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import dev.ganeshpalankar.rentals_backend.common.worker.PollingWorkers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background threads that drain the outbox. Stopping waits up to the lease timeout for batches being
+ * published; after that their events are published again anyway.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rentals.outbox", name = "relay-enabled", matchIfMissing = true)
+public class OutboxRelayWorkers extends PollingWorkers {
+
+    public OutboxRelayWorkers(OutboxRelay relay, OutboxProperties properties) {
+        super("outbox-relay", properties.getRelayThreads(), properties.getPollInterval(),
+                properties.getLeaseTimeout(), workerId -> relay.relayBatch());
+    }
+}
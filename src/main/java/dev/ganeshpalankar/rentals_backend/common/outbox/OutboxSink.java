@@ -0,0 +1,13 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import java.util.List;
+
+/**
+ * Publishes outbox events downstream, e.g. to a message broker.
+ * Events are published at least once: if the relay dies or its claim times out before the events are
+ * acknowledged, they are published again, so consumers must drop duplicates by {@link OutboxEvent#id()}.
+ * Throw to have the events retried after a backoff.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxEvent> events);
+}
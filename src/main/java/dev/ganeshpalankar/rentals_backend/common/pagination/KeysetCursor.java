@@ -0,0 +1,45 @@
+package dev.ganeshpalankar.rentals_backend.common.pagination;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page ordered by {@code (created_at, id)}.
+ * Clients receive it as an opaque base64url token and send it back to fetch the next page,
+ * which the database answers with a range seek on the {@code (created_at, id)} index instead of OFFSET.
+ */
+public record KeysetCursor(Instant createdAt, long id) {
+
+    private static final int ENCODED_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_LENGTH) {
+                throw new InvalidCursorException(token);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new KeysetCursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
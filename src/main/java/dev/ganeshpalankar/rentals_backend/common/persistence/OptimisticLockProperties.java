@@ -0,0 +1,31 @@
+package dev.ganeshpalankar.rentals_backend.common.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Retries of transactions that fail on an optimistic locking conflict.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.persistence.optimistic-lock")
+public class OptimisticLockProperties {
+
+    /**
+     * Attempts per unit of work, including the first. The conflict of the last attempt is rethrown.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Upper bound of the random delay before the first retry; doubled for each further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    /**
+     * Upper bound of the random delay before any retry.
+     */
+    private Duration maxBackoff = Duration.ofMillis(100);
+}
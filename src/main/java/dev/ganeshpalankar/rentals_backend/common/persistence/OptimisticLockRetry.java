@@ -0,0 +1,101 @@
+package dev.ganeshpalankar.rentals_backend.common.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and, when it fails on an optimistic locking conflict, runs it again
+ * in a new transaction, up to {@link OptimisticLockProperties#getMaxAttempts()} times.
+ * The work must re-read the entities it changes, so each attempt applies its change to the latest committed
+ * version. Retries wait a random, exponentially growing delay so that competing writers spread out.
+ * Conflicts are counted in {@code rentals.optimistic.lock.conflicts}, tagged by whether they were retried.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    static final String METER_NAME = "rentals.optimistic.lock.conflicts";
+
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticLockProperties properties;
+    private final Counter retried;
+    private final Counter exhausted;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               OptimisticLockProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.retried = conflictCounter(meterRegistry, "retried");
+        this.exhausted = conflictCounter(meterRegistry, "exhausted");
+    }
+
+    /**
+     * Run {@code work} in a new transaction, retrying it on optimistic locking conflicts.
+     *
+     * @throws IllegalStateException if called inside a transaction, where a retry would only see the same
+     *                               stale state and the conflict would already have marked it rollback-only
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Optimistic lock retries must start outside a transaction");
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    exhausted.increment();
+                    throw ex;
+                }
+                retried.increment();
+                if (!backOff(attempt)) {
+                    throw ex;
+                }
+                attempt++;
+            }
+        }
+    }
+
+    public void execute(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Sleep before retry number {@code attempt}. Returns false if interrupted, in which case no retry is made.
+     */
+    private boolean backOff(int attempt) {
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        long boundMillis = Math.min(maxMillis, properties.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        if (boundMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(boundMillis + 1));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter conflictCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METER_NAME)
+                .description("Optimistic locking conflicts of retried units of work")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package dev.ganeshpalankar.rentals_backend.common.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Base class for entities that are updated concurrently.
+ * Tracks creation and modification times, and guards every update with a version check: an update made from a
+ * stale copy fails with an optimistic locking exception instead of overwriting the newer row, so no row locks
+ * are held while a request is in flight. Services recover from such conflicts with {@link OptimisticLockRetry};
+ * requests that still conflict are answered with 409.
+ * Tables of subclasses need {@code created_at}, {@code updated_at} and {@code version} columns.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+public abstract class VersionedEntity {
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
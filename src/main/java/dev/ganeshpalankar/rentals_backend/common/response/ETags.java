@@ -0,0 +1,23 @@
+package dev.ganeshpalankar.rentals_backend.common.response;
+
+import java.time.Instant;
+
+/**
+ * Strong entity tags for conditional GETs.
+ * A tag only depends on the entity's identity and its last-modified time, so it can be computed from a
+ * lightweight query before deciding whether the entity needs to be loaded at all.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    /**
+     * Tag for the representation of entity {@code id} as last modified at {@code updatedAt}.
+     * Timestamps are compared at microsecond precision, the precision they are stored with.
+     */
+    public static String of(long id, Instant updatedAt) {
+        long micros = Math.addExact(Math.multiplyExact(updatedAt.getEpochSecond(), 1_000_000L),
+                updatedAt.getNano() / 1_000);
+        return "\"" + Long.toHexString(id) + "-" + Long.toHexString(micros) + "\"";
+    }
+}
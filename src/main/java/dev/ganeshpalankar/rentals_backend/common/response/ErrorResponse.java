@@ -1,5 +1,6 @@
 package dev.ganeshpalankar.rentals_backend.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,4 +21,10 @@ public class ErrorResponse {
     private String method;
     private List<FieldError> fieldErrors;
     private Instant timestamp;
+
+    /**
+     * True when more fields failed validation than are listed in {@code fieldErrors}; omitted otherwise.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean fieldErrorsTruncated;
 }
\ No newline at end of file
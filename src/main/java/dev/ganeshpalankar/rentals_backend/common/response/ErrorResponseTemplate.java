@@ -0,0 +1,62 @@
+package dev.ganeshpalankar.rentals_backend.common.response;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
+
+/**
+ * The fixed part of an {@link ErrorResponse} for one kind of error, encoded to JSON once.
+ * Holds everything up to the {@code details} value; {@link ErrorResponseWriter} appends the
+ * per-request fields (details, path, method, timestamp) when the error is written.
+ */
+public final class ErrorResponseTemplate {
+
+    private final int status;
+    private final String code;
+    private final String type;
+    private final SerializableString prefix;
+
+    private ErrorResponseTemplate(int status, String code, String type, SerializableString prefix) {
+        this.status = status;
+        this.code = code;
+        this.type = type;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Pre-encode the static fields of an error response.
+     * Produces the same JSON as serializing an {@link ErrorResponse} with these values.
+     */
+    public static ErrorResponseTemplate of(int status, String message, String code, ErrorType type) {
+        String json = "{\"status\":" + status
+                + ",\"message\":" + quote(message)
+                + ",\"error\":{\"code\":" + quote(code)
+                + ",\"type\":" + quote(type.toString())
+                + ",\"details\":";
+        SerializedString prefix = new SerializedString(json);
+        // Encode to UTF-8 now rather than on the first rejected request
+        prefix.asUnquotedUTF8();
+        return new ErrorResponseTemplate(status, code, type.toString(), prefix);
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    SerializableString getPrefix() {
+        return prefix;
+    }
+
+    private static String quote(String value) {
+        return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + '"';
+    }
+}
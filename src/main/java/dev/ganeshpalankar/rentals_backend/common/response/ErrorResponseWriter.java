@@ -0,0 +1,99 @@
+package dev.ganeshpalankar.rentals_backend.common.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Writes error responses straight to the servlet output stream with the application {@link ObjectMapper},
+ * so errors rejected by filters look exactly like those produced by the {@code @ControllerAdvice} handlers.
+ * <p>
+ * Errors whose shape is known up front can be written from an {@link ErrorResponseTemplate}: the static
+ * fields are copied as pre-encoded bytes and only the per-request values are serialized.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final SerializableString PATH_FIELD = preEncoded("},\"path\":");
+    private static final SerializableString METHOD_FIELD = preEncoded(",\"method\":");
+    private static final SerializableString FIELD_ERRORS_AND_TIMESTAMP_FIELDS =
+            preEncoded(",\"fieldErrors\":[],\"timestamp\":");
+
+    private final ObjectMapper objectMapper;
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write a fully built error response.
+     */
+    public void write(HttpServletResponse response, ErrorResponse errorResponse) throws IOException {
+        prepare(response, errorResponse.getStatus());
+        try (JsonGenerator generator = createGenerator(response)) {
+            objectMapper.writeValue(generator, errorResponse);
+        }
+    }
+
+    /**
+     * Write an error from a template, filling in the details and the request-specific fields.
+     */
+    public void write(HttpServletResponse response,
+                      HttpServletRequest request,
+                      ErrorResponseTemplate template,
+                      String details) throws IOException {
+        prepare(response, template.getStatus());
+        try (JsonGenerator generator = createGenerator(response)) {
+            // The template and the constants below hold the JSON punctuation, so the
+            // generator only ever writes standalone values
+            generator.setRootValueSeparator(null);
+            generator.writeRaw(template.getPrefix());
+            writeNullableString(generator, details);
+            generator.writeRaw(PATH_FIELD);
+            writeNullableString(generator, request.getRequestURI());
+            generator.writeRaw(METHOD_FIELD);
+            writeNullableString(generator, request.getMethod());
+            generator.writeRaw(FIELD_ERRORS_AND_TIMESTAMP_FIELDS);
+            generator.writeObject(Instant.now());
+            generator.writeRaw('}');
+        }
+    }
+
+    private static void prepare(HttpServletResponse response, int status) {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+
+    private JsonGenerator createGenerator(HttpServletResponse response) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        // Leave the servlet stream to the container: closing the generator copies its buffer into the
+        // stream without flushing it, so small bodies still go out with a Content-Length in one write
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        return generator;
+    }
+
+    private static SerializableString preEncoded(String json) {
+        SerializedString value = new SerializedString(json);
+        value.asUnquotedUTF8();
+        return value;
+    }
+
+    private static void writeNullableString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
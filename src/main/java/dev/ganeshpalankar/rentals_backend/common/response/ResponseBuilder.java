@@ -1,5 +1,6 @@
 package dev.ganeshpalankar.rentals_backend.common.response;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -9,6 +10,8 @@ public class ResponseBuilder<T> {
     private HttpStatus httpStatus;
     private String message;
     private T data;
+    private String eTag;
+    private CacheControl cacheControl;
 
     private ResponseBuilder() {}
 
@@ -36,6 +39,16 @@ public class ResponseBuilder<T> {
         return this;
     }
 
+    public ResponseBuilder<T> eTag(String eTag) {
+        this.eTag = eTag;
+        return this;
+    }
+
+    public ResponseBuilder<T> cacheControl(CacheControl cacheControl) {
+        this.cacheControl = cacheControl;
+        return this;
+    }
+
     public ResponseEntity<ApiResponse<T>> build() {
         if (this.httpStatus == null) {
             throw new IllegalStateException("HTTP status is required");
@@ -49,8 +62,13 @@ public class ResponseBuilder<T> {
             Instant.now()
         );
 
-        return ResponseEntity
-            .status(this.httpStatus)
-            .body(apiResponse);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(this.httpStatus);
+        if (this.eTag != null) {
+            response.eTag(this.eTag);
+        }
+        if (this.cacheControl != null) {
+            response.cacheControl(this.cacheControl);
+        }
+        return response.body(apiResponse);
     }
 }
\ No newline at end of file
@@ -2,20 +2,39 @@ package dev.ganeshpalankar.rentals_backend.common.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Validator implementation for @ValidEnum annotation.
  * Validates that enum fields contain valid enum constants.
+ * The constant names of each enum are collected into hash sets once and shared by every validator
+ * for that enum, so a check is a single set lookup.
  */
 public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
 
-    private Class<? extends Enum<?>> enumClass;
+    private static final ClassValue<EnumNames> ENUM_NAMES = new ClassValue<>() {
+        @Override
+        protected EnumNames computeValue(Class<?> type) {
+            return EnumNames.of(type);
+        }
+    };
+
+    private EnumNames enumNames;
+    private boolean ignoreCase;
+    private boolean listAllowedValues;
+    private String messageTemplate;
 
     @Override
     public void initialize(ValidEnum annotation) {
-        this.enumClass = annotation.enumClass();
+        this.enumNames = ENUM_NAMES.get(annotation.enumClass());
+        this.ignoreCase = annotation.ignoreCase();
+        this.listAllowedValues = annotation.listAllowedValues();
+        this.messageTemplate = annotation.message();
     }
 
     @Override
@@ -25,7 +44,46 @@ public class EnumValidator implements ConstraintValidator<ValidEnum, String> {
             return true;
         }
 
-        return Arrays.stream(enumClass.getEnumConstants())
-                .anyMatch(e -> e.name().equals(value));
+        boolean valid = ignoreCase ? enumNames.containsIgnoreCase(value) : enumNames.contains(value);
+        if (!valid && listAllowedValues && context != null) {
+            // Passed as a message parameter so the values are not themselves interpolated
+            context.disableDefaultConstraintViolation();
+            context.unwrap(HibernateConstraintValidatorContext.class)
+                    .addMessageParameter("allowedValues", enumNames.allowedValues())
+                    .buildConstraintViolationWithTemplate(messageTemplate + ". Allowed values: {allowedValues}")
+                    .addConstraintViolation();
+        }
+        return valid;
+    }
+
+    /**
+     * Constant names of one enum class, precomputed for lookups.
+     */
+    private record EnumNames(Set<String> names, Set<String> upperCaseNames, String allowedValues) {
+
+        static EnumNames of(Class<?> enumClass) {
+            Enum<?>[] constants = (Enum<?>[]) enumClass.getEnumConstants();
+            if (constants == null) {
+                throw new IllegalArgumentException(enumClass.getName() + " is not an enum");
+            }
+            Set<String> names = Arrays.stream(constants)
+                    .map(Enum::name)
+                    .collect(Collectors.toUnmodifiableSet());
+            Set<String> upperCaseNames = names.stream()
+                    .map(name -> name.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            String allowedValues = Arrays.stream(constants)
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", "));
+            return new EnumNames(names, upperCaseNames, allowedValues);
+        }
+
+        boolean contains(String value) {
+            return names.contains(value);
+        }
+
+        boolean containsIgnoreCase(String value) {
+            return names.contains(value) || upperCaseNames.contains(value.toUpperCase(Locale.ROOT));
+        }
     }
 }
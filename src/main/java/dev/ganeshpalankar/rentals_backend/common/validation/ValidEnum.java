@@ -20,6 +20,9 @@ import java.lang.annotation.Target;
  * {@code
  * @ValidEnum(enumClass = PropertyType.class, message = "Invalid property type")
  * private PropertyType propertyType;
+ *
+ * @ValidEnum(enumClass = PropertyType.class, ignoreCase = true, listAllowedValues = true)
+ * private String propertyType;
  * }
  * </pre>
  */
@@ -39,6 +42,16 @@ public @interface ValidEnum {
      */
     String message() default "Invalid value for enum";
 
+    /**
+     * Accept constant names regardless of case.
+     */
+    boolean ignoreCase() default false;
+
+    /**
+     * Append the accepted constant names to the error message.
+     */
+    boolean listAllowedValues() default false;
+
     Class<?>[] groups() default {};
 
     Class<? extends Payload>[] payload() default {};
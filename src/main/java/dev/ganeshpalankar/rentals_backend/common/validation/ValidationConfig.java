@@ -0,0 +1,19 @@
+package dev.ganeshpalankar.rentals_backend.common.validation;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * Apply {@link ValidationProperties#isFailFast()} to the application's validator.
+     */
+    @Bean
+    public ValidationConfigurationCustomizer failFastValidationCustomizer(ValidationProperties properties) {
+        return configuration -> configuration.addProperty(
+                HibernateValidatorConfiguration.FAIL_FAST, Boolean.toString(properties.isFailFast()));
+    }
+}
@@ -0,0 +1,30 @@
+package dev.ganeshpalankar.rentals_backend.common.validation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits on validation work and on the size of validation error responses.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.validation")
+public class ValidationProperties {
+
+    /**
+     * Stop validating a request at the first constraint violation.
+     */
+    private boolean failFast = false;
+
+    /**
+     * Maximum number of fields reported in a validation error response; the response is marked
+     * as truncated when more fields failed.
+     */
+    private int maxFieldErrors = 100;
+
+    /**
+     * Rejected values longer than this many characters are cut short in error responses.
+     */
+    private int maxRejectedValueLength = 256;
+}
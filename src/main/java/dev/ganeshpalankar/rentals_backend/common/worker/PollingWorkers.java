@@ -0,0 +1,114 @@
+package dev.ganeshpalankar.rentals_backend.common.worker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Background threads that drain a database-backed queue, one batch at a time. A worker keeps processing
+ * batches while the batch function claims work and sleeps for about the poll interval when it claims none; the
+ * sleep is jittered so idle workers across instances don't poll in lockstep.
+ * <p>
+ * The batch function is given the worker's id, unique across instances, and returns how many items it claimed.
+ * A batch that throws is logged and the worker carries on; whatever it had claimed is left for its claim to
+ * expire. Stopping lets each worker finish its current batch, waiting at most the stop timeout for all of them.
+ */
+@Slf4j
+public class PollingWorkers implements SmartLifecycle {
+
+    private final String name;
+    private final int threadCount;
+    private final Duration pollInterval;
+    private final Duration stopTimeout;
+    private final ToIntFunction<String> batch;
+    // Prefixes the worker ids, e.g. for claimed_by columns
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final List<Thread> threads = new ArrayList<>();
+    // Idle workers wait on this rather than sleep, so stopping can wake them without interrupting a worker
+    // in the middle of a database call
+    private final Object idle = new Object();
+
+    private volatile boolean running;
+
+    /**
+     * @param name         names the worker threads, as {@code name-1} to {@code name-threadCount}
+     * @param threadCount  workers to start
+     * @param pollInterval about how long an idle worker waits before calling the batch function again
+     * @param stopTimeout  how long stopping waits for the workers' current batches, e.g. the claim timeout
+     * @param batch        processes one batch for the given worker id and returns the number of items claimed
+     */
+    public PollingWorkers(String name, int threadCount, Duration pollInterval, Duration stopTimeout,
+                          ToIntFunction<String> batch) {
+        this.name = name;
+        this.threadCount = threadCount;
+        this.pollInterval = pollInterval;
+        this.stopTimeout = stopTimeout;
+        this.batch = batch;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        for (int i = 1; i <= threadCount; i++) {
+            String workerId = instanceId + "-" + i;
+            threads.add(Thread.ofPlatform().name(name + "-" + i).daemon().start(() -> work(workerId)));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+        // One deadline for all workers, which finish their batches concurrently
+        long deadline = System.nanoTime() + stopTimeout.toNanos();
+        for (Thread thread : threads) {
+            try {
+                if (!thread.join(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0)))) {
+                    log.warn("{} workers still busy after {}; abandoning them", name, stopTimeout);
+                    break;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work(String workerId) {
+        long pollMillis = pollInterval.toMillis();
+        while (running) {
+            try {
+                if (batch.applyAsInt(workerId) > 0) {
+                    continue;
+                }
+            } catch (RuntimeException ex) {
+                // E.g. the database is unreachable; claimed items become available again when the claim expires
+                log.warn("{} worker {} failed to process a batch: {}", name, workerId, ex.toString());
+            }
+            synchronized (idle) {
+                if (!running) {
+                    return;
+                }
+                try {
+                    idle.wait(pollMillis / 2 + ThreadLocalRandom.current().nextLong(pollMillis + 1));
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the {@link JwtDecoder} used by the resource server.
+ * Unlike the auto-configured decoder, the JWK set is fetched at startup rather than on the first request,
+ * refreshed in the background before it expires, and kept through short outages of the issuer.
+ * Validated tokens are cached by {@link CachingJwtDecoder}.
+ */
+@Slf4j
+@Configuration
+public class JwtDecoderConfig {
+
+    private static final int JWKS_SIZE_LIMIT_BYTES = 50 * 1024;
+
+    @Bean
+    public JWKSource<SecurityContext> jwkSource(OAuth2ResourceServerProperties resourceServerProperties,
+                                                JwtDecoderProperties properties) throws MalformedURLException {
+        String jwkSetUri = resourceServerProperties.getJwt().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            throw new IllegalStateException("spring.security.oauth2.resourceserver.jwt.jwk-set-uri must be set");
+        }
+
+        DefaultResourceRetriever retriever = new DefaultResourceRetriever(
+                (int) properties.getJwksConnectTimeout().toMillis(),
+                (int) properties.getJwksReadTimeout().toMillis(),
+                JWKS_SIZE_LIMIT_BYTES);
+
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL(), retriever)
+                .cache(properties.getJwksCacheTtl().toMillis(), properties.getJwksRefreshTimeout().toMillis())
+                .refreshAheadCache(properties.getJwksRefreshAhead().toMillis(), true)
+                .outageTolerant(properties.getJwksCacheTtl().toMillis())
+                .build();
+
+        preload(jwkSource, jwkSetUri);
+        return jwkSource;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource,
+                                 OAuth2ResourceServerProperties resourceServerProperties,
+                                 JwtDecoderProperties properties,
+                                 MeterRegistry meterRegistry) {
+        OAuth2ResourceServerProperties.Jwt jwtProperties = resourceServerProperties.getJwt();
+        Set<JWSAlgorithm> algorithms = jwtProperties.getJwsAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+        // Claims are checked by Spring's validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(StringUtils.hasText(jwtProperties.getIssuerUri())
+                ? JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuerUri())
+                : JwtValidators.createDefault());
+
+        if (!properties.isTokenCacheEnabled()) {
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, properties.getTokenCacheMaximumSize(), meterRegistry);
+    }
+
+    /**
+     * Fetch the JWK set once so the first authenticated request doesn't pay for it.
+     * A failure is logged rather than thrown: the keys are fetched again on demand.
+     */
+    private static void preload(JWKSource<SecurityContext> jwkSource, String jwkSetUri) {
+        try {
+            int keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+            log.info("Loaded {} signing key(s) from {}", keys, jwkSetUri);
+        } catch (KeySourceException ex) {
+            log.warn("Could not preload JWK set from {}: {}", jwkSetUri, ex.getMessage());
+        }
+    }
+}
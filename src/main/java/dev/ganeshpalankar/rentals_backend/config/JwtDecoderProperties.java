@@ -0,0 +1,46 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for JWT validation: JWK set caching and the decoded-token cache.
+ * The JWK set location and issuer come from {@code spring.security.oauth2.resourceserver.jwt}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.security.jwt")
+public class JwtDecoderProperties {
+
+    /**
+     * How long a fetched JWK set is used before it must be refreshed.
+     */
+    private Duration jwksCacheTtl = Duration.ofMinutes(15);
+
+    /**
+     * How long before expiry the JWK set is refreshed in the background.
+     */
+    private Duration jwksRefreshAhead = Duration.ofMinutes(1);
+
+    /**
+     * How long a request waits for another thread's JWK set refresh before failing.
+     */
+    private Duration jwksRefreshTimeout = Duration.ofSeconds(5);
+
+    private Duration jwksConnectTimeout = Duration.ofMillis(500);
+
+    private Duration jwksReadTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Whether validated tokens are cached, so repeated calls with the same token skip signature verification.
+     */
+    private boolean tokenCacheEnabled = true;
+
+    /**
+     * Maximum number of validated tokens kept in the cache.
+     */
+    private long tokenCacheMaximumSize = 10_000;
+}
@@ -1,53 +1,71 @@
 package dev.ganeshpalankar.rentals_backend.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
-import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
-import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.exception.DataAccessExceptionHandler;
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseWriter;
 import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
 import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredExceptionHandler;
 import dev.ganeshpalankar.rentals_backend.users.service.UserContextService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Filter that verifies authenticated users are registered in the database.
  * Runs after JWT authentication but before authorization checks.
  * Skips public endpoints that don't require authentication.
+ * The lookup is usually a request's first database call, so when the connection pool is saturated this is where
+ * the request fails; it gets the same 503 as a controller would, since exceptions here never reach MVC.
+ * Time spent in each phase (skip check, user lookup, error write) is published as {@code rentals.registration.check}.
  */
 @Component
-@RequiredArgsConstructor
 public class RegisteredUserFilter extends OncePerRequestFilter {
 
-    private static final List<String> SKIP_REGISTRATION_CHECK_PATTERNS = List.of(
-            "/public/**",
-            "/users/signup"
-    );
-
     private final UserContextService userContextService;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SkipPathMatcher skipPathMatcher;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorMetrics errorMetrics;
+    private final Timer skipCheckTimer;
+    private final Timer lookupTimer;
+    private final Timer errorWriteTimer;
+
+    public RegisteredUserFilter(UserContextService userContextService,
+                                RegistrationCheckProperties properties,
+                                ErrorResponseWriter errorResponseWriter,
+                                ErrorMetrics errorMetrics,
+                                MeterRegistry meterRegistry) {
+        this.userContextService = userContextService;
+        this.errorResponseWriter = errorResponseWriter;
+        this.errorMetrics = errorMetrics;
+        this.skipPathMatcher = new SkipPathMatcher(properties.getSkipPaths());
+        this.skipCheckTimer = phaseTimer("skip_check", meterRegistry);
+        this.lookupTimer = phaseTimer("lookup", meterRegistry);
+        this.errorWriteTimer = phaseTimer("error_write", meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         // Skip registration check for specific endpoints
-        if (shouldSkipRegistrationCheck(request.getRequestURI())) {
+        long start = System.nanoTime();
+        boolean skip = shouldSkipRegistrationCheck(request.getRequestURI());
+        skipCheckTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (skip) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -57,14 +75,25 @@ public class RegisteredUserFilter extends OncePerRequestFilter {
         if (authentication != null && authentication.isAuthenticated()
                 && !authentication.getPrincipal().equals("anonymousUser")) {
 
+            start = System.nanoTime();
             try {
-                // Verify user is registered in database
-                userContextService.getCurrentUserId();
+                // Verify user is registered and keep the resolved user for the rest of the request
+                userContextService.resolveCurrentUser();
             } catch (UserNotRegisteredException ex) {
+                lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                 // User is authenticated but not registered - return 403 Forbidden
+                start = System.nanoTime();
                 sendErrorResponse(response, request, ex);
+                errorWriteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            } catch (CannotCreateTransactionException | CannotGetJdbcConnectionException ex) {
+                lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                start = System.nanoTime();
+                sendDatabaseBusyResponse(response, request);
+                errorWriteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                 return;
             }
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         // Continue filter chain
@@ -73,20 +102,35 @@ public class RegisteredUserFilter extends OncePerRequestFilter {
 
 
     private boolean shouldSkipRegistrationCheck(String uri) {
-        return SKIP_REGISTRATION_CHECK_PATTERNS.stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, uri));
+        return skipPathMatcher.matches(uri);
     }
 
     private void sendErrorResponse(HttpServletResponse response,
                                    HttpServletRequest request,
                                    UserNotRegisteredException ex) throws IOException {
 
-        ErrorResponse errorResponse = new UserNotRegisteredExceptionHandler()
-                .handle(ex,request);
+        errorResponseWriter.write(response, request,
+                UserNotRegisteredExceptionHandler.TEMPLATE,
+                UserNotRegisteredExceptionHandler.details(ex));
+        errorMetrics.record(UserNotRegisteredExceptionHandler.TEMPLATE.getType(),
+                UserNotRegisteredExceptionHandler.TEMPLATE.getCode());
+    }
+
+    private void sendDatabaseBusyResponse(HttpServletResponse response,
+                                          HttpServletRequest request) throws IOException {
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, DataAccessExceptionHandler.RETRY_AFTER_SECONDS);
+        errorResponseWriter.write(response, request,
+                DataAccessExceptionHandler.TEMPLATE,
+                DataAccessExceptionHandler.DETAILS);
+        errorMetrics.record(DataAccessExceptionHandler.TEMPLATE.getType(),
+                DataAccessExceptionHandler.TEMPLATE.getCode());
+    }
 
-        response.setStatus(errorResponse.getStatus());
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    private static Timer phaseTimer(String phase, MeterRegistry meterRegistry) {
+        return Timer.builder("rentals.registration.check")
+                .description("Time spent in each phase of the registration check")
+                .tag("phase", phase)
+                .register(meterRegistry);
     }
 }
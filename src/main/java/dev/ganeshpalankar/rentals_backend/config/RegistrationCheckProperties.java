@@ -0,0 +1,23 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for {@link RegisteredUserFilter}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.security.registration-check")
+public class RegistrationCheckProperties {
+
+    /**
+     * Path patterns that don't require the caller to be a registered user.
+     * Uses {@link org.springframework.web.util.pattern.PathPattern} syntax.
+     */
+    private List<String> skipPaths = new ArrayList<>(List.of("/public/**", "/users/signup"));
+}
@@ -0,0 +1,72 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches request URIs against a fixed list of path patterns, compiled once at startup.
+ * Literal patterns become a hash lookup and trailing {@code /**} patterns become prefix checks,
+ * so the common cases match without allocating. Any other pattern falls back to a parsed
+ * {@link PathPattern}.
+ */
+public class SkipPathMatcher {
+
+    private static final String CATCH_ALL_SUFFIX = "/**";
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<PathPattern> patterns = new ArrayList<>();
+
+    public SkipPathMatcher(List<String> pathPatterns) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (String pattern : pathPatterns) {
+            if (pattern.endsWith(CATCH_ALL_SUFFIX) && isLiteral(pattern, pattern.length() - CATCH_ALL_SUFFIX.length())) {
+                // "/public/**" matches "/public" itself as well as everything below it
+                String base = pattern.substring(0, pattern.length() - CATCH_ALL_SUFFIX.length());
+                exactPaths.add(base);
+                prefixes.add(base + "/");
+            } else if (isLiteral(pattern, pattern.length())) {
+                exactPaths.add(pattern);
+            } else {
+                patterns.add(parser.parse(pattern));
+            }
+        }
+    }
+
+    public boolean matches(String uri) {
+        if (exactPaths.contains(uri)) {
+            return true;
+        }
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (uri.startsWith(prefixes.get(i))) {
+                return true;
+            }
+        }
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(uri);
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(String pattern, int end) {
+        for (int i = 0; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package dev.ganeshpalankar.rentals_backend.ledger.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the monthly rent charge engine.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.rent-charges")
+public class RentChargeProperties {
+
+    /**
+     * Number of lease ids per chunk. Each chunk is charged in one transaction with batched statements.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Chunks charged at once. Each holds a database connection, so keep this well below the pool size.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Charge the current month on {@link #cron}.
+     */
+    private boolean scheduleEnabled = true;
+
+    /**
+     * When to charge the current month, in UTC. Defaults to 01:00 on the first of the month.
+     */
+    private String cron = "0 0 1 1 * *";
+
+    /**
+     * Upper bound on the failures listed in a run report; all of them are counted.
+     */
+    private int maxReportedFailures = 100;
+
+    /**
+     * How long shutdown waits for the chunks in flight to finish. Chunks not started by then are left to the
+     * next run of the period.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,32 @@
+package dev.ganeshpalankar.rentals_backend.ledger.config;
+
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentChargeEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Charges the current month's rent on {@code rentals.rent-charges.cron}.
+ * Every instance runs the schedule; runs of one month are idempotent, so extra instances only find nothing
+ * left to charge.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "rentals.rent-charges", name = "schedule-enabled", matchIfMissing = true)
+public class RentChargeSchedulingConfig {
+
+    private final RentChargeEngine rentChargeEngine;
+
+    public RentChargeSchedulingConfig(RentChargeEngine rentChargeEngine) {
+        this.rentChargeEngine = rentChargeEngine;
+    }
+
+    @Scheduled(cron = "${rentals.rent-charges.cron:0 0 1 1 * *}", zone = "UTC")
+    public void chargeCurrentMonth() {
+        rentChargeEngine.run(YearMonth.now(ZoneOffset.UTC));
+    }
+}
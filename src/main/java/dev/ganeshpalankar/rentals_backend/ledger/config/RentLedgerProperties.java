@@ -0,0 +1,36 @@
+package dev.ganeshpalankar.rentals_backend.ledger.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the rent ledger, checked at startup.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "rentals.ledger")
+public class RentLedgerProperties {
+
+    /**
+     * A balance snapshot is stored after every this many entries of a lease, which bounds the number of entries
+     * read to compute a past balance.
+     */
+    @Positive
+    private int snapshotInterval = 100;
+
+    /**
+     * Page size of the entry listing when the client does not ask for one.
+     */
+    @Positive
+    private int defaultPageSize = 50;
+
+    /**
+     * Upper bound on the page size of the entry listing.
+     */
+    @Positive
+    private int maxPageSize = 500;
+}
@@ -0,0 +1,45 @@
+package dev.ganeshpalankar.rentals_backend.ledger.controller;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.RentChargeRunReport;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.StartRentChargeRunRequest;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentChargeEngine;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/rent-charges/runs")
+public class RentChargeController {
+    @Autowired
+    private RentChargeEngine rentChargeEngine;
+
+    /**
+     * Charge a month's rent to every active lease, in the background. Resumes the month's unfinished run if
+     * there is one; charging a month again only charges leases that weren't charged yet.
+     */
+    @PostMapping
+    @PreAuthorize("hasAuthority('SCOPE_rent-charges:run')")
+    public ResponseEntity<ApiResponse<RentChargeRunReport>> startRun(
+            @Valid @RequestBody StartRentChargeRunRequest request) {
+        RentChargeRunReport run = rentChargeEngine.startAsync(request.getPeriod());
+        return ResponseBuilder.<RentChargeRunReport>create()
+                .status(HttpStatus.ACCEPTED)
+                .message("Rent charge run started")
+                .data(run)
+                .build();
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAuthority('SCOPE_rent-charges:run')")
+    public ResponseEntity<ApiResponse<RentChargeRunReport>> getRun(@PathVariable Long id) {
+        return ResponseBuilder.<RentChargeRunReport>create()
+                .status(HttpStatus.OK)
+                .data(rentChargeEngine.getReport(id))
+                .build();
+    }
+}
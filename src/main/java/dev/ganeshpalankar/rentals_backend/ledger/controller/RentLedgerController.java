@@ -0,0 +1,82 @@
+package dev.ganeshpalankar.rentals_backend.ledger.controller;
+
+import dev.ganeshpalankar.rentals_backend.common.pagination.CursorPage;
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.LeaseBalanceView;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.PostLedgerEntryRequest;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntry;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntryType;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentLedgerService;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/leases/{leaseId}/ledger")
+public class RentLedgerController {
+    @Autowired
+    private RentLedgerService rentLedgerService;
+
+    @PostMapping("/charges")
+    public ResponseEntity<ApiResponse<LedgerEntry>> postCharge(@PathVariable Long leaseId,
+                                                               @Valid @RequestBody PostLedgerEntryRequest request,
+                                                               CurrentUser currentUser) {
+        return posted(rentLedgerService.post(currentUser.getUserId(), leaseId, LedgerEntryType.CHARGE,
+                request.getAmountCents(), request.getDescription()), "Charge posted successfully");
+    }
+
+    @PostMapping("/payments")
+    public ResponseEntity<ApiResponse<LedgerEntry>> postPayment(@PathVariable Long leaseId,
+                                                                @Valid @RequestBody PostLedgerEntryRequest request,
+                                                                CurrentUser currentUser) {
+        return posted(rentLedgerService.post(currentUser.getUserId(), leaseId, LedgerEntryType.PAYMENT,
+                request.getAmountCents(), request.getDescription()), "Payment posted successfully");
+    }
+
+    /**
+     * The lease's current balance, or its balance at the end of {@code asOf} (UTC).
+     */
+    @GetMapping("/balance")
+    public ResponseEntity<ApiResponse<LeaseBalanceView>> getBalance(
+            @PathVariable Long leaseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            CurrentUser currentUser) {
+        LeaseBalanceView balance = rentLedgerService.getBalance(currentUser.getUserId(), leaseId, asOf);
+        return ResponseBuilder.<LeaseBalanceView>create()
+                .status(HttpStatus.OK)
+                .data(balance)
+                .build();
+    }
+
+    /**
+     * List the lease's entries in posting order, one page at a time.
+     * Pass the {@code nextCursor} of a page back as {@code cursor} to fetch the one after it.
+     */
+    @GetMapping("/entries")
+    public ResponseEntity<ApiResponse<CursorPage<LedgerEntry>>> listEntries(
+            @PathVariable Long leaseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            CurrentUser currentUser) {
+        CursorPage<LedgerEntry> page = rentLedgerService.listEntries(currentUser.getUserId(), leaseId, cursor, size);
+        return ResponseBuilder.<CursorPage<LedgerEntry>>create()
+                .status(HttpStatus.OK)
+                .data(page)
+                .build();
+    }
+
+    private static ResponseEntity<ApiResponse<LedgerEntry>> posted(LedgerEntry entry, String message) {
+        return ResponseBuilder.<LedgerEntry>create()
+                .status(HttpStatus.CREATED)
+                .message(message)
+                .data(entry)
+                .build();
+    }
+}
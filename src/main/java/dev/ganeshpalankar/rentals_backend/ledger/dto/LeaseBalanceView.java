@@ -0,0 +1,25 @@
+package dev.ganeshpalankar.rentals_backend.ledger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Balance of a lease's ledger: positive when the tenant owes rent, negative when they are in credit.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaseBalanceView {
+    private Long leaseId;
+    private long balanceCents;
+
+    /**
+     * Day whose end the balance was computed at (UTC), or null for the current balance.
+     */
+    private LocalDate asOf;
+}
@@ -0,0 +1,25 @@
+package dev.ganeshpalankar.rentals_backend.ledger.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostLedgerEntryRequest {
+    /**
+     * Amount in cents. Always positive; the endpoint decides whether it is a charge or a payment.
+     */
+    @NotNull
+    @Positive
+    private Long amountCents;
+
+    @Size(max = 255)
+    private String description;
+}
@@ -0,0 +1,47 @@
+package dev.ganeshpalankar.rentals_backend.ledger.dto;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Outcome of a rent charge run. While the run is in progress the counts cover the chunks finished so far.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RentChargeRunReport {
+    private Long id;
+    private YearMonth period;
+    private RentChargeRunStatus status;
+    private long chargedCount;
+
+    /**
+     * Leases that already had a charge for the period.
+     */
+    private long skippedCount;
+    private long failedCount;
+    private Instant completedAt;
+
+    /**
+     * The first failed leases, up to {@code rentals.rent-charges.max-reported-failures}.
+     */
+    private List<LeaseFailure> failures;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class LeaseFailure {
+        private Long leaseId;
+        private ErrorDetail error;
+    }
+}
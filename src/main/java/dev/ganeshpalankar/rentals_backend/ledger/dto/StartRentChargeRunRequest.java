@@ -0,0 +1,21 @@
+package dev.ganeshpalankar.rentals_backend.ledger.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.YearMonth;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StartRentChargeRunRequest {
+    /**
+     * Month to charge, e.g. {@code 2026-11}.
+     */
+    @NotNull
+    private YearMonth period;
+}
@@ -0,0 +1,14 @@
+package dev.ganeshpalankar.rentals_backend.ledger.event;
+
+import java.time.Instant;
+
+/**
+ * Published through the outbox when a payment is posted to a lease ledger.
+ * {@code amountCents} is the amount received, a positive number.
+ */
+public record PaymentPosted(Long leaseId, Long ownerId, long sequence, long amountCents, long balanceCents,
+                            Instant postedAt) {
+
+    public static final String AGGREGATE_TYPE = "lease";
+    public static final String EVENT_TYPE = "ledger.payment-posted";
+}
@@ -0,0 +1,42 @@
+package dev.ganeshpalankar.rentals_backend.ledger.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ApplicationException;
+import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
+import lombok.Getter;
+
+/**
+ * Failure to charge rent to one lease during a rent charge run.
+ * These don't reach a client; the engine records them as the run's per-lease failure report.
+ */
+@Getter
+public class RentChargeException extends ApplicationException {
+
+    private final Long leaseId;
+    private final String code;
+    private final ErrorType type;
+    private final String details;
+
+    public RentChargeException(Long leaseId, String code, ErrorType type, String details) {
+        super();
+        this.leaseId = leaseId;
+        this.code = code;
+        this.type = type;
+        this.details = details;
+    }
+
+    /**
+     * The lease has no ledger to post to.
+     */
+    public static RentChargeException ledgerNotFound(Long leaseId) {
+        return new RentChargeException(leaseId, "LEDGER_NOT_FOUND", ErrorType.RESOURCE_NOT_FOUND,
+                String.format("Lease with ID '%s' has no rent ledger", leaseId));
+    }
+
+    /**
+     * Charging the lease failed for a reason other than a known business rule.
+     */
+    public static RentChargeException unexpected(Long leaseId, Exception cause) {
+        return new RentChargeException(leaseId, "RENT_CHARGE_FAILED", ErrorType.SERVER_ERROR,
+                String.format("Charging lease with ID '%s' failed: %s", leaseId, cause));
+    }
+}
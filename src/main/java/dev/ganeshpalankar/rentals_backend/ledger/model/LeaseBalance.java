@@ -0,0 +1,53 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Running balance of a lease's ledger: the sum of all its entries.
+ * Updated in place with every entry (see {@code LeaseBalanceRepository#applyEntry}); the update also hands out
+ * the entry's sequence number, so entries of one lease are posted one at a time.
+ */
+@Entity
+@Table(name = "lease_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+public class LeaseBalance {
+    @Id
+    @Column(name = "lease_id")
+    private Long leaseId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+
+    /**
+     * When the latest entry was posted; never decreases, even if the clock does.
+     */
+    @Column(name = "last_posted_at")
+    private Instant lastPostedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static LeaseBalance open(Long leaseId, Long ownerId) {
+        LeaseBalance balance = new LeaseBalance();
+        balance.setLeaseId(leaseId);
+        balance.setOwnerId(ownerId);
+        balance.setUpdatedAt(Instant.now());
+        return balance;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Balance of a lease's ledger right after the entry with the given sequence, posted at {@code postedAt}.
+ */
+@Entity
+@Immutable
+@Table(name = "lease_balance_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lease_balance_snapshots_lease_sequence", columnNames = {"lease_id", "sequence"})
+}, indexes = {
+        @Index(name = "idx_lease_balance_snapshots_lease_posted_at", columnList = "lease_id, posted_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class LeaseBalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "lease_id", nullable = false)
+    private Long leaseId;
+
+    @Column(name = "sequence", nullable = false)
+    private long sequence;
+
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
+
+    @Column(name = "posted_at", nullable = false)
+    private Instant postedAt;
+}
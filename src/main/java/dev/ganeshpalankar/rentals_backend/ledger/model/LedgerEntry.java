@@ -0,0 +1,63 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One charge or payment in a lease's rent ledger. Entries are never changed or deleted; corrections are
+ * posted as new entries.
+ */
+@Entity
+@Immutable
+@Table(name = "rent_ledger_entries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rent_ledger_entries_lease_sequence", columnNames = {"lease_id", "sequence"}),
+        @UniqueConstraint(name = "uk_rent_ledger_entries_lease_charge_period", columnNames = {"lease_id", "charge_period"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "lease_id", nullable = false)
+    private Long leaseId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    /**
+     * Position in the lease's ledger, starting at 1.
+     */
+    @Column(name = "sequence", nullable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 16)
+    private LedgerEntryType type;
+
+    /**
+     * Positive for charges, negative for payments.
+     */
+    @Column(name = "amount_cents", nullable = false)
+    private long amountCents;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "posted_at", nullable = false)
+    private Instant postedAt;
+
+    /**
+     * For monthly rent charges, the first day of the month charged for. A lease has at most one charge per month.
+     */
+    @Column(name = "charge_period")
+    private LocalDate chargePeriod;
+}
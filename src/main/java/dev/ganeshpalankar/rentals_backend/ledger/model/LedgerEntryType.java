@@ -0,0 +1,19 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+public enum LedgerEntryType {
+    /**
+     * Rent or another amount owed by the tenant; increases the balance.
+     */
+    CHARGE,
+    /**
+     * Money received from the tenant; decreases the balance.
+     */
+    PAYMENT;
+
+    /**
+     * The ledger amount of an entry of this type for {@code cents}, a positive amount.
+     */
+    public long signedAmount(long cents) {
+        return this == CHARGE ? cents : -cents;
+    }
+}
@@ -0,0 +1,44 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * A lease the rent charge engine could not charge, with the error it failed on.
+ */
+@Entity
+@Immutable
+@Table(name = "rent_charge_failures", indexes = {
+        @Index(name = "idx_rent_charge_failures_run_id", columnList = "run_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class RentChargeFailure {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "lease_id", nullable = false)
+    private Long leaseId;
+
+    @Column(name = "error_code", nullable = false, length = 64)
+    private String errorCode;
+
+    @Column(name = "error_type", nullable = false, length = 32)
+    private String errorType;
+
+    @Column(name = "details", length = 1000)
+    private String details;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
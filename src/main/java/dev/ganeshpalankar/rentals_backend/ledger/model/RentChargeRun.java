@@ -0,0 +1,57 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+import dev.ganeshpalankar.rentals_backend.common.persistence.VersionedEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One pass of the rent charge engine over all leases for a month.
+ */
+@Entity
+@Table(name = "rent_charge_runs", indexes = {
+        @Index(name = "idx_rent_charge_runs_period_status", columnList = "period, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class RentChargeRun extends VersionedEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * First day of the month being charged.
+     */
+    @Column(name = "period", nullable = false)
+    private LocalDate period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private RentChargeRunStatus status;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    /**
+     * Highest lease id when the run started; leases created later are left to the next run of the period.
+     */
+    @Column(name = "max_lease_id", nullable = false)
+    private long maxLeaseId;
+
+    @Column(name = "charged_count", nullable = false)
+    private long chargedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private long skippedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,9 @@
+package dev.ganeshpalankar.rentals_backend.ledger.model;
+
+public enum RentChargeRunStatus {
+    /**
+     * Started and not finished. A run left in this state by a crash is resumed by the next run of its period.
+     */
+    RUNNING,
+    COMPLETED
+}
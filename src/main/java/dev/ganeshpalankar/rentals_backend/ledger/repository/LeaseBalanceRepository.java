@@ -0,0 +1,29 @@
+package dev.ganeshpalankar.rentals_backend.ledger.repository;
+
+import dev.ganeshpalankar.rentals_backend.ledger.model.LeaseBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface LeaseBalanceRepository extends JpaRepository<LeaseBalance, Long> {
+
+    Optional<LeaseBalance> findByLeaseIdAndOwnerId(Long leaseId, Long ownerId);
+
+    // Adds one entry to the balance and claims the next sequence number. The row stays locked until the
+    // transaction ends, which is what orders concurrent entries of one lease
+    @Transactional
+    @Modifying
+    @Query("""
+            update LeaseBalance b set
+                b.balanceCents = b.balanceCents + :amountCents,
+                b.lastSequence = b.lastSequence + 1,
+                b.lastPostedAt = case when b.lastPostedAt > :now then b.lastPostedAt else :now end,
+                b.updatedAt = :now
+            where b.leaseId = :leaseId and b.ownerId = :ownerId""")
+    int applyEntry(Long leaseId, Long ownerId, long amountCents, Instant now);
+}
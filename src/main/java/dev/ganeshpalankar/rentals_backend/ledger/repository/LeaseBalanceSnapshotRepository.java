@@ -0,0 +1,18 @@
+package dev.ganeshpalankar.rentals_backend.ledger.repository;
+
+import dev.ganeshpalankar.rentals_backend.ledger.model.LeaseBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface LeaseBalanceSnapshotRepository extends JpaRepository<LeaseBalanceSnapshot, Long> {
+
+    Optional<LeaseBalanceSnapshot> findFirstByLeaseIdAndPostedAtBeforeOrderByPostedAtDescSequenceDesc(
+            Long leaseId, Instant before);
+
+    Optional<LeaseBalanceSnapshot> findFirstByLeaseIdAndSequenceGreaterThanOrderBySequenceAsc(
+            Long leaseId, long afterSequence);
+}
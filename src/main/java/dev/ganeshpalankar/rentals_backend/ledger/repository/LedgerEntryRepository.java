@@ -0,0 +1,25 @@
+package dev.ganeshpalankar.rentals_backend.ledger.repository;
+
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    // Seeks on (lease_id, sequence), so each page costs the same however long the ledger is
+    List<LedgerEntry> findByLeaseIdAndSequenceGreaterThanOrderBySequenceAsc(Long leaseId, long afterSequence,
+                                                                             Limit limit);
+
+    // The tail after a snapshot: a bounded range of (lease_id, sequence), filtered by time
+    @Query("""
+            select coalesce(sum(e.amountCents), 0) from LedgerEntry e
+            where e.leaseId = :leaseId and e.sequence > :afterSequence and e.sequence < :beforeSequence
+              and e.postedAt < :before""")
+    long sumAmountBetween(Long leaseId, long afterSequence, long beforeSequence, Instant before);
+}
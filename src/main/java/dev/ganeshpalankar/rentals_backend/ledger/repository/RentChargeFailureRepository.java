@@ -0,0 +1,13 @@
+package dev.ganeshpalankar.rentals_backend.ledger.repository;
+
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeFailure;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface RentChargeFailureRepository extends JpaRepository<RentChargeFailure, Long> {
+    List<RentChargeFailure> findByRunIdOrderByIdAsc(Long runId, Limit limit);
+}
@@ -0,0 +1,14 @@
+package dev.ganeshpalankar.rentals_backend.ledger.repository;
+
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRun;
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface RentChargeRunRepository extends JpaRepository<RentChargeRun, Long> {
+    Optional<RentChargeRun> findFirstByPeriodAndStatusOrderByIdDesc(LocalDate period, RentChargeRunStatus status);
+}
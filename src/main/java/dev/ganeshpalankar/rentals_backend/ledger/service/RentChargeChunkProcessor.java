@@ -0,0 +1,251 @@
+package dev.ganeshpalankar.rentals_backend.ledger.service;
+
+import dev.ganeshpalankar.rentals_backend.ledger.config.RentLedgerProperties;
+import dev.ganeshpalankar.rentals_backend.ledger.exception.RentChargeException;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntryType;
+import dev.ganeshpalankar.rentals_backend.properties.model.LeaseStatus;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioDelta;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Charges one month's rent to the active leases in a range of lease ids, in one transaction.
+ * <p>
+ * Every step is one batched statement for the whole chunk: claiming the next sequence number of each lease's
+ * ledger, inserting the charges and any snapshots that fall due, then one summary update per owner. The
+ * chunk's checkpoint row commits with the charges, so a chunk is either fully charged and checkpointed or not
+ * at all. Leases already charged for the month are skipped, which makes processing a chunk again harmless.
+ * <p>
+ * Locks are taken in the same order as {@link RentLedgerService#post}: lease balances first, in lease id
+ * order, then portfolio summaries in owner id order, so chunks running in parallel and single postings
+ * never deadlock.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentChargeChunkProcessor {
+
+    // Leases to charge, flagging those already charged for the period
+    private static final String SELECT_LEASES = """
+            SELECT l.id, l.owner_id, l.monthly_rent_cents,
+                   EXISTS (SELECT 1 FROM rent_ledger_entries e
+                           WHERE e.lease_id = l.id AND e.charge_period = ?) AS charged
+            FROM leases l
+            WHERE l.id > ? AND l.id <= ? AND l.status = ? AND l.start_date <= ?
+            ORDER BY l.id""";
+
+    private static final String APPLY_CHARGE = """
+            UPDATE lease_balances SET
+                balance_cents = balance_cents + ?,
+                last_sequence = last_sequence + 1,
+                last_posted_at = CASE WHEN last_posted_at > ? THEN last_posted_at ELSE ? END,
+                updated_at = ?
+            WHERE lease_id = ?""";
+
+    private static final String SELECT_BALANCES = """
+            SELECT lease_id, balance_cents, last_sequence, last_posted_at
+            FROM lease_balances
+            WHERE lease_id > ? AND lease_id <= ?""";
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO rent_ledger_entries (lease_id, owner_id, sequence, entry_type, amount_cents, description,
+                                             posted_at, charge_period)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_SNAPSHOT = """
+            INSERT INTO lease_balance_snapshots (lease_id, sequence, balance_cents, posted_at)
+            VALUES (?, ?, ?, ?)""";
+
+    private static final String INSERT_FAILURE = """
+            INSERT INTO rent_charge_failures (run_id, lease_id, error_code, error_type, details, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private static final String DELETE_FAILURES = """
+            DELETE FROM rent_charge_failures WHERE run_id = ? AND lease_id > ? AND lease_id <= ?""";
+
+    private static final String INSERT_CHECKPOINT = """
+            INSERT INTO rent_charge_chunks (run_id, after_lease_id, charged, skipped, failed, completed_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private static final int MAX_DETAILS_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioSummaryService portfolioSummaryService;
+    private final RentLedgerProperties rentLedgerProperties;
+
+    /**
+     * Charge {@code period} to the leases with ids in {@code (afterLeaseId, lastLeaseId]} and checkpoint the
+     * chunk under {@code runId}.
+     * If the chunk as a whole fails, its leases are charged one transaction each instead, so one bad lease
+     * costs the chunk its batching but not its other charges.
+     */
+    public ChunkResult process(Long runId, YearMonth period, long afterLeaseId, long lastLeaseId) {
+        try {
+            return transactionTemplate.execute(status -> {
+                ChunkResult result = charge(runId, period, afterLeaseId, lastLeaseId);
+                checkpoint(runId, afterLeaseId, result);
+                return result;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Rent charge run {} chunk ({}, {}] failed as a whole, charging its leases one by one: {}",
+                    runId, afterLeaseId, lastLeaseId, ex.toString());
+            return processLeaseByLease(runId, period, afterLeaseId, lastLeaseId);
+        }
+    }
+
+    private ChunkResult processLeaseByLease(Long runId, YearMonth period, long afterLeaseId, long lastLeaseId) {
+        // Failures recorded by an earlier, interrupted attempt at this chunk are recorded again below
+        jdbcTemplate.update(DELETE_FAILURES, runId, afterLeaseId, lastLeaseId);
+
+        List<Long> leaseIds = jdbcTemplate.queryForList(
+                "SELECT id FROM leases WHERE id > ? AND id <= ? ORDER BY id", Long.class, afterLeaseId, lastLeaseId);
+        int charged = 0;
+        int skipped = 0;
+        int failed = 0;
+        for (Long leaseId : leaseIds) {
+            try {
+                // A lease without a ledger is recorded as a failure by charge() itself
+                ChunkResult result = transactionTemplate.execute(status ->
+                        charge(runId, period, leaseId - 1, leaseId));
+                charged += result.charged();
+                skipped += result.skipped();
+                failed += result.failed();
+            } catch (DuplicateKeyException ex) {
+                // Charged concurrently by another run of the same period
+                skipped++;
+            } catch (RuntimeException ex) {
+                recordFailures(runId, List.of(RentChargeException.unexpected(leaseId, ex)));
+                failed++;
+            }
+        }
+        ChunkResult result = new ChunkResult(charged, skipped, failed);
+        checkpoint(runId, afterLeaseId, result);
+        return result;
+    }
+
+    private ChunkResult charge(Long runId, YearMonth period, long afterLeaseId, long lastLeaseId) {
+        LocalDate chargePeriod = period.atDay(1);
+        List<ChargeableLease> leases = new ArrayList<>();
+        int[] skipped = {0};
+        jdbcTemplate.query(SELECT_LEASES, rs -> {
+            if (rs.getBoolean("charged")) {
+                skipped[0]++;
+            } else {
+                leases.add(new ChargeableLease(rs.getLong("id"), rs.getLong("owner_id"),
+                        rs.getLong("monthly_rent_cents")));
+            }
+        }, chargePeriod, afterLeaseId, lastLeaseId, LeaseStatus.ACTIVE.name(), period.atEndOfMonth());
+        if (leases.isEmpty()) {
+            return new ChunkResult(0, skipped[0], 0);
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int[] updated = jdbcTemplate.batchUpdate(APPLY_CHARGE, leases, leases.size(), (ps, lease) -> {
+            ps.setLong(1, lease.monthlyRentCents());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setLong(5, lease.leaseId());
+        })[0];
+
+        List<RentChargeException> failures = new ArrayList<>();
+        List<ChargeableLease> applied = new ArrayList<>(leases.size());
+        for (int i = 0; i < leases.size(); i++) {
+            if (updated[i] == 0) {
+                failures.add(RentChargeException.ledgerNotFound(leases.get(i).leaseId()));
+            } else {
+                applied.add(leases.get(i));
+            }
+        }
+
+        // The rows just updated, which this transaction now holds the locks on. The range also holds leases that
+        // weren't charged, e.g. ones starting later, whose ledgers may never have been posted to
+        Set<Long> appliedIds = new HashSet<>(applied.size() * 2);
+        applied.forEach(lease -> appliedIds.add(lease.leaseId()));
+        Map<Long, Balance> balances = new HashMap<>();
+        jdbcTemplate.query(SELECT_BALANCES, rs -> {
+            long leaseId = rs.getLong("lease_id");
+            if (appliedIds.contains(leaseId)) {
+                balances.put(leaseId, new Balance(rs.getLong("balance_cents"), rs.getLong("last_sequence"),
+                        rs.getObject("last_posted_at", OffsetDateTime.class).toInstant()));
+            }
+        }, afterLeaseId, lastLeaseId);
+
+        String description = "Rent " + period;
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, applied, applied.size(), (ps, lease) -> {
+            Balance balance = balances.get(lease.leaseId());
+            ps.setLong(1, lease.leaseId());
+            ps.setLong(2, lease.ownerId());
+            ps.setLong(3, balance.lastSequence());
+            ps.setString(4, LedgerEntryType.CHARGE.name());
+            ps.setLong(5, lease.monthlyRentCents());
+            ps.setString(6, description);
+            ps.setTimestamp(7, Timestamp.from(balance.lastPostedAt()));
+            ps.setObject(8, chargePeriod);
+        });
+
+        long snapshotInterval = rentLedgerProperties.getSnapshotInterval();
+        List<ChargeableLease> snapshotDue = applied.stream()
+                .filter(lease -> balances.get(lease.leaseId()).lastSequence() % snapshotInterval == 0)
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, snapshotDue, snapshotDue.size(), (ps, lease) -> {
+            Balance balance = balances.get(lease.leaseId());
+            ps.setLong(1, lease.leaseId());
+            ps.setLong(2, balance.lastSequence());
+            ps.setLong(3, balance.balanceCents());
+            ps.setTimestamp(4, Timestamp.from(balance.lastPostedAt()));
+        });
+
+        // One update per owner, in owner id order
+        SortedMap<Long, Long> rentByOwner = new TreeMap<>();
+        for (ChargeableLease lease : applied) {
+            rentByOwner.merge(lease.ownerId(), lease.monthlyRentCents(), Long::sum);
+        }
+        rentByOwner.forEach((ownerId, rentCents) ->
+                portfolioSummaryService.applyDelta(ownerId, PortfolioDelta.outstandingRent(rentCents)));
+
+        recordFailures(runId, failures);
+        return new ChunkResult(applied.size(), skipped[0], failures.size());
+    }
+
+    private void recordFailures(Long runId, List<RentChargeException> failures) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_FAILURE, failures, failures.size(), (ps, failure) -> {
+            ps.setLong(1, runId);
+            ps.setLong(2, failure.getLeaseId());
+            ps.setString(3, failure.getCode());
+            ps.setString(4, failure.getType().toString());
+            ps.setString(5, failure.getDetails().length() > MAX_DETAILS_LENGTH
+                    ? failure.getDetails().substring(0, MAX_DETAILS_LENGTH)
+                    : failure.getDetails());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private void checkpoint(Long runId, long afterLeaseId, ChunkResult result) {
+        jdbcTemplate.update(INSERT_CHECKPOINT, runId, afterLeaseId, result.charged(), result.skipped(),
+                result.failed(), Timestamp.from(Instant.now()));
+    }
+
+    /**
+     * Leases of a chunk charged, skipped because they were already charged for the period, and failed.
+     */
+    public record ChunkResult(int charged, int skipped, int failed) {}
+
+    private record ChargeableLease(long leaseId, long ownerId, long monthlyRentCents) {}
+
+    private record Balance(long balanceCents, long lastSequence, Instant lastPostedAt) {}
+}
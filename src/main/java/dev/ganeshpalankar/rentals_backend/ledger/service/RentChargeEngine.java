@@ -0,0 +1,213 @@
+package dev.ganeshpalankar.rentals_backend.ledger.service;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.ledger.config.RentChargeProperties;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.RentChargeRunReport;
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRun;
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRunStatus;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.RentChargeFailureRepository;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.RentChargeRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Posts a month's rent charge to every active lease.
+ * <p>
+ * A run splits lease ids into fixed ranges of {@link RentChargeProperties#getChunkSize()} and hands them to
+ * {@link RentChargeChunkProcessor}, {@link RentChargeProperties#getParallelism()} at a time. Each finished chunk
+ * leaves a checkpoint, so a run interrupted by a crash or a failed chunk is picked up by the next run of its
+ * period, which skips the checkpointed chunks. Charges are unique per lease and month, so even a chunk charged
+ * twice posts each charge once. On shutdown, runs finish the chunks in flight and leave the rest to the next run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RentChargeEngine {
+
+    private final RentChargeRunRepository runRepository;
+    private final RentChargeFailureRepository failureRepository;
+    private final RentChargeChunkProcessor chunkProcessor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RentChargeProperties properties;
+
+    // Runs whose chunks this instance is working through; a run is never executed twice at once
+    private final Set<Long> executing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable ->
+            Thread.ofPlatform().name("rent-charge-launcher").daemon().unstarted(runnable));
+
+    private volatile boolean stopping;
+
+    /**
+     * Charge {@code period} and wait for the run to finish.
+     */
+    public RentChargeRunReport run(YearMonth period) {
+        RentChargeRun run = start(period);
+        if (executing.add(run.getId())) {
+            try {
+                execute(run);
+            } finally {
+                executing.remove(run.getId());
+            }
+        }
+        return getReport(run.getId());
+    }
+
+    /**
+     * Start or resume the run of {@code period} in the background and return it as it is now.
+     */
+    public RentChargeRunReport startAsync(YearMonth period) {
+        RentChargeRun run = start(period);
+        if (executing.add(run.getId())) {
+            launcher.execute(() -> {
+                try {
+                    execute(run);
+                } catch (RuntimeException ex) {
+                    log.error("Rent charge run {} for {} stopped; the next run of the period resumes it",
+                            run.getId(), period, ex);
+                } finally {
+                    executing.remove(run.getId());
+                }
+            });
+        }
+        return toReport(run);
+    }
+
+    public RentChargeRunReport getReport(Long runId) {
+        return toReport(runRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException(runId, "Rent charge run")));
+    }
+
+    /**
+     * The unfinished run of {@code period}, or a new one covering the leases that exist now.
+     */
+    synchronized RentChargeRun start(YearMonth period) {
+        return transactionTemplate.execute(status -> runRepository
+                .findFirstByPeriodAndStatusOrderByIdDesc(period.atDay(1), RentChargeRunStatus.RUNNING)
+                .orElseGet(() -> {
+                    RentChargeRun run = new RentChargeRun();
+                    run.setPeriod(period.atDay(1));
+                    run.setStatus(RentChargeRunStatus.RUNNING);
+                    run.setChunkSize(properties.getChunkSize());
+                    run.setMaxLeaseId(jdbcTemplate.queryForObject(
+                            "SELECT COALESCE(MAX(id), 0) FROM leases", Long.class));
+                    return runRepository.save(run);
+                }));
+    }
+
+    /**
+     * Charge the chunks of {@code run} that have no checkpoint yet, then complete it.
+     */
+    void execute(RentChargeRun run) {
+        YearMonth period = YearMonth.from(run.getPeriod());
+        Set<Long> checkpointed = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT after_lease_id FROM rent_charge_chunks WHERE run_id = ?", Long.class, run.getId()));
+        long started = System.nanoTime();
+
+        // A bounded queue with the caller running the overflow keeps at most a few chunks queued however
+        // many leases there are
+        int parallelism = properties.getParallelism();
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                runnable -> Thread.ofPlatform().name("rent-charge-" + threads.incrementAndGet()).unstarted(runnable),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<RentChargeChunkProcessor.ChunkResult>> chunks = new ArrayList<>();
+        try (executor) {
+            for (long after = 0; after < run.getMaxLeaseId() && !stopping; after += run.getChunkSize()) {
+                if (checkpointed.contains(after)) {
+                    continue;
+                }
+                long afterLeaseId = after;
+                long lastLeaseId = Math.min(after + run.getChunkSize(), run.getMaxLeaseId());
+                chunks.add(executor.submit(() ->
+                        chunkProcessor.process(run.getId(), period, afterLeaseId, lastLeaseId)));
+            }
+        }
+        for (Future<RentChargeChunkProcessor.ChunkResult> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while charging rent", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Rent charge run " + run.getId() + " failed", ex.getCause());
+            }
+        }
+
+        if (stopping) {
+            log.info("Rent charge run {} for {} stopped by shutdown; the next run of the period resumes it",
+                    run.getId(), period);
+            return;
+        }
+        RentChargeRun completed = complete(run.getId());
+        log.info("Rent charge run {} for {} completed in {} ms: {} charged, {} skipped, {} failed",
+                run.getId(), period, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                completed.getChargedCount(), completed.getSkippedCount(), completed.getFailedCount());
+    }
+
+    /**
+     * Stop starting chunks and wait for the ones in flight, so no run is cut off in the middle of a chunk.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        launcher.shutdown();
+        try {
+            if (!launcher.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Rent charge run still charging after {}; abandoning it", properties.getShutdownTimeout());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RentChargeRun complete(Long runId) {
+        return transactionTemplate.execute(status -> {
+            RentChargeRun run = runRepository.findById(runId).orElseThrow();
+            countCheckpointed(run);
+            run.setStatus(RentChargeRunStatus.COMPLETED);
+            run.setCompletedAt(Instant.now());
+            return runRepository.save(run);
+        });
+    }
+
+    private void countCheckpointed(RentChargeRun run) {
+        jdbcTemplate.query("""
+                SELECT COALESCE(SUM(charged), 0), COALESCE(SUM(skipped), 0), COALESCE(SUM(failed), 0)
+                FROM rent_charge_chunks WHERE run_id = ?""", rs -> {
+            run.setChargedCount(rs.getLong(1));
+            run.setSkippedCount(rs.getLong(2));
+            run.setFailedCount(rs.getLong(3));
+        }, run.getId());
+    }
+
+    private RentChargeRunReport toReport(RentChargeRun run) {
+        if (run.getStatus() == RentChargeRunStatus.RUNNING) {
+            // Progress so far; only a completed run stores its counts
+            countCheckpointed(run);
+        }
+        List<RentChargeRunReport.LeaseFailure> failures = failureRepository
+                .findByRunIdOrderByIdAsc(run.getId(), Limit.of(properties.getMaxReportedFailures())).stream()
+                .map(failure -> new RentChargeRunReport.LeaseFailure(failure.getLeaseId(),
+                        new ErrorDetail(failure.getErrorCode(), failure.getErrorType(), failure.getDetails())))
+                .toList();
+        return new RentChargeRunReport(run.getId(), YearMonth.from(run.getPeriod()), run.getStatus(),
+                run.getChargedCount(), run.getSkippedCount(), run.getFailedCount(), run.getCompletedAt(), failures);
+    }
+}
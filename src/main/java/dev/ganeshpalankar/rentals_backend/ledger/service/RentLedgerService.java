@@ -0,0 +1,176 @@
+package dev.ganeshpalankar.rentals_backend.ledger.service;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.InvalidCursorException;
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.outbox.Outbox;
+import dev.ganeshpalankar.rentals_backend.common.pagination.CursorPage;
+import dev.ganeshpalankar.rentals_backend.ledger.config.RentLedgerProperties;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.LeaseBalanceView;
+import dev.ganeshpalankar.rentals_backend.ledger.event.PaymentPosted;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LeaseBalance;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LeaseBalanceSnapshot;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntry;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntryType;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.LeaseBalanceRepository;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.LeaseBalanceSnapshotRepository;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.LedgerEntryRepository;
+import dev.ganeshpalankar.rentals_backend.properties.model.Lease;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioDelta;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Posts entries to lease ledgers and answers balance queries without summing a lease's history.
+ * <p>
+ * Posting an entry updates the lease's running balance, the entry itself and, for every
+ * {@link RentLedgerProperties#getSnapshotInterval()}th entry, a balance snapshot, all in one transaction.
+ * The current balance is then a single-row read, and the balance at a past time is the latest snapshot before
+ * it plus the entries between that snapshot and the next one.
+ * The owner's outstanding rent in the portfolio summary moves with every entry, and payments are announced
+ * through the {@link Outbox}.
+ */
+@Service
+@RequiredArgsConstructor
+public class RentLedgerService {
+
+    private final LeaseBalanceRepository leaseBalanceRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LeaseBalanceSnapshotRepository snapshotRepository;
+    private final PortfolioSummaryService portfolioSummaryService;
+    private final RentLedgerProperties rentLedgerProperties;
+    private final Outbox outbox;
+
+    /**
+     * Create the empty ledger of a new lease, in the transaction that creates the lease.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void openLedger(Lease lease) {
+        leaseBalanceRepository.save(LeaseBalance.open(lease.getId(), lease.getOwnerId()));
+    }
+
+    @Transactional
+    public LedgerEntry post(Long ownerId, Long leaseId, LedgerEntryType type, long amountCents, String description) {
+        long signedAmount = type.signedAmount(amountCents);
+        int updated = leaseBalanceRepository.applyEntry(leaseId, ownerId, signedAmount, Instant.now());
+        if (updated == 0) {
+            throw new ResourceNotFoundException(leaseId, "Lease");
+        }
+        // Fresh read of the row just updated, which this transaction now holds the lock on
+        LeaseBalance balance = leaseBalanceRepository.findById(leaseId).orElseThrow();
+
+        LedgerEntry entry = new LedgerEntry();
+        entry.setLeaseId(leaseId);
+        entry.setOwnerId(ownerId);
+        entry.setSequence(balance.getLastSequence());
+        entry.setType(type);
+        entry.setAmountCents(signedAmount);
+        entry.setDescription(description);
+        entry.setPostedAt(balance.getLastPostedAt());
+        LedgerEntry savedEntry = ledgerEntryRepository.save(entry);
+
+        if (balance.getLastSequence() % rentLedgerProperties.getSnapshotInterval() == 0) {
+            LeaseBalanceSnapshot snapshot = new LeaseBalanceSnapshot();
+            snapshot.setLeaseId(leaseId);
+            snapshot.setSequence(balance.getLastSequence());
+            snapshot.setBalanceCents(balance.getBalanceCents());
+            snapshot.setPostedAt(balance.getLastPostedAt());
+            snapshotRepository.save(snapshot);
+        }
+
+        portfolioSummaryService.applyDelta(ownerId, PortfolioDelta.outstandingRent(signedAmount));
+        if (type == LedgerEntryType.PAYMENT) {
+            outbox.append(PaymentPosted.AGGREGATE_TYPE, leaseId, PaymentPosted.EVENT_TYPE, new PaymentPosted(
+                    leaseId, ownerId, balance.getLastSequence(), amountCents, balance.getBalanceCents(),
+                    balance.getLastPostedAt()));
+        }
+        return savedEntry;
+    }
+
+    /**
+     * The lease's balance now, or at the end of {@code asOf} (UTC) if given.
+     */
+    @Transactional(readOnly = true)
+    public LeaseBalanceView getBalance(Long ownerId, Long leaseId, LocalDate asOf) {
+        long balanceCents = asOf == null
+                ? findBalance(ownerId, leaseId).getBalanceCents()
+                : balanceBefore(ownerId, leaseId, asOf.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        return new LeaseBalanceView(leaseId, balanceCents, asOf);
+    }
+
+    /**
+     * The lease's balance counting only the entries posted before {@code before}.
+     */
+    @Transactional(readOnly = true)
+    public long balanceBefore(Long ownerId, Long leaseId, Instant before) {
+        LeaseBalance balance = findBalance(ownerId, leaseId);
+        if (balance.getLastPostedAt() == null || balance.getLastPostedAt().isBefore(before)) {
+            return balance.getBalanceCents();
+        }
+
+        LeaseBalanceSnapshot snapshot = snapshotRepository
+                .findFirstByLeaseIdAndPostedAtBeforeOrderByPostedAtDescSequenceDesc(leaseId, before)
+                .orElse(null);
+        long fromSequence = snapshot != null ? snapshot.getSequence() : 0;
+        long fromBalance = snapshot != null ? snapshot.getBalanceCents() : 0;
+        // Entries at or after the next snapshot were posted at or after it, i.e. not before the cutoff
+        long toSequence = snapshotRepository
+                .findFirstByLeaseIdAndSequenceGreaterThanOrderBySequenceAsc(leaseId, fromSequence)
+                .map(LeaseBalanceSnapshot::getSequence)
+                .orElse(Long.MAX_VALUE);
+        return fromBalance + ledgerEntryRepository.sumAmountBetween(leaseId, fromSequence, toSequence, before);
+    }
+
+    /**
+     * Entries of the lease in posting order. Pass the {@code nextCursor} of a page back as {@code cursor}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<LedgerEntry> listEntries(Long ownerId, Long leaseId, String cursor, Integer pageSize) {
+        findBalance(ownerId, leaseId);
+        long afterSequence = parseCursor(cursor);
+        int limit = resolvePageSize(pageSize);
+
+        // One extra row tells whether there is a next page
+        List<LedgerEntry> entries = ledgerEntryRepository
+                .findByLeaseIdAndSequenceGreaterThanOrderBySequenceAsc(leaseId, afterSequence, Limit.of(limit + 1));
+        boolean hasMore = entries.size() > limit;
+        List<LedgerEntry> page = hasMore ? entries.subList(0, limit) : entries;
+        String nextCursor = hasMore ? String.valueOf(page.getLast().getSequence()) : null;
+        return new CursorPage<>(page, nextCursor, hasMore);
+    }
+
+    private LeaseBalance findBalance(Long ownerId, Long leaseId) {
+        return leaseBalanceRepository.findByLeaseIdAndOwnerId(leaseId, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException(leaseId, "Lease"));
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            long afterSequence = Long.parseLong(cursor);
+            if (afterSequence < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return afterSequence;
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return rentLedgerProperties.getDefaultPageSize();
+        }
+        return Math.min(requested, rentLedgerProperties.getMaxPageSize());
+    }
+}
@@ -0,0 +1,71 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.config;
+
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration for maintenance requests and their dispatch queue.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.maintenance")
+public class MaintenanceProperties {
+
+    /**
+     * How soon after submission a request of each priority must be dispatched.
+     */
+    private Map<MaintenancePriority, Duration> sla = new EnumMap<>(Map.of(
+            MaintenancePriority.EMERGENCY, Duration.ofHours(4),
+            MaintenancePriority.HIGH, Duration.ofHours(24),
+            MaintenancePriority.NORMAL, Duration.ofDays(3),
+            MaintenancePriority.LOW, Duration.ofDays(7)));
+
+    private Dispatch dispatch = new Dispatch();
+
+    @Getter
+    @Setter
+    public static class Dispatch {
+
+        /**
+         * Run dispatch workers in this instance. Any number of instances can run them against one queue.
+         */
+        private boolean workersEnabled = true;
+
+        /**
+         * Worker threads per instance. Each holds a database connection only while claiming or finishing jobs.
+         */
+        private int workers = 4;
+
+        /**
+         * Jobs a worker claims at once.
+         */
+        private int batchSize = 20;
+
+        /**
+         * How long an idle worker waits before looking for jobs again.
+         */
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /**
+         * How long a claimed job stays hidden from other workers. A job not finished by then, e.g. because its
+         * worker died, is claimed again, so this must comfortably exceed the time to dispatch a batch.
+         */
+        private Duration visibilityTimeout = Duration.ofMinutes(5);
+
+        /**
+         * Claims of a job before it is given up on.
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Delay before a failed job is retried, doubled for every further attempt.
+         */
+        private Duration retryBackoff = Duration.ofSeconds(30);
+    }
+}
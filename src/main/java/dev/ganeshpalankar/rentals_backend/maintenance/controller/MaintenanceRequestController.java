@@ -0,0 +1,41 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.controller;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.maintenance.dto.SubmitMaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.service.MaintenanceRequestService;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+public class MaintenanceRequestController {
+    @Autowired
+    private MaintenanceRequestService maintenanceRequestService;
+
+    @PostMapping("/units/{unitId}/maintenance-requests")
+    public ResponseEntity<ApiResponse<MaintenanceRequest>> submit(@PathVariable Long unitId,
+                                                                  @Valid @RequestBody SubmitMaintenanceRequest request,
+                                                                  CurrentUser currentUser) {
+        MaintenanceRequest maintenanceRequest =
+                maintenanceRequestService.submit(currentUser.getUserId(), unitId, request);
+        return ResponseBuilder.<MaintenanceRequest>create()
+                .status(HttpStatus.CREATED)
+                .message("Maintenance request submitted successfully")
+                .data(maintenanceRequest)
+                .build();
+    }
+
+    @GetMapping("/maintenance-requests/{id}")
+    public ResponseEntity<ApiResponse<MaintenanceRequest>> getRequest(@PathVariable Long id,
+                                                                      CurrentUser currentUser) {
+        return ResponseBuilder.<MaintenanceRequest>create()
+                .status(HttpStatus.OK)
+                .data(maintenanceRequestService.getRequest(currentUser.getUserId(), id))
+                .build();
+    }
+}
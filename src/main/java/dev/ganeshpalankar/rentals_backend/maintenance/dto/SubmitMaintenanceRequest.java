@@ -0,0 +1,28 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.dto;
+
+import dev.ganeshpalankar.rentals_backend.common.validation.ValidEnum;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubmitMaintenanceRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+
+    @Size(max = 2000)
+    private String description;
+
+    @NotNull
+    @ValidEnum(enumClass = MaintenancePriority.class, ignoreCase = true, listAllowedValues = true)
+    private String priority;
+}
@@ -0,0 +1,18 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.event;
+
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequestStatus;
+
+import java.time.Instant;
+
+/**
+ * Published through the outbox when a maintenance request is submitted and whenever its status changes.
+ */
+public record MaintenanceRequestUpdated(Long requestId, Long unitId, Long ownerId, MaintenancePriority priority,
+                                        MaintenanceRequestStatus status, Instant slaDeadline, Instant updatedAt) {
+
+    public static final String AGGREGATE_TYPE = "maintenance-request";
+    public static final String SUBMITTED = "maintenance-request.submitted";
+    public static final String DISPATCHED = "maintenance-request.dispatched";
+    public static final String DISPATCH_FAILED = "maintenance-request.dispatch-failed";
+}
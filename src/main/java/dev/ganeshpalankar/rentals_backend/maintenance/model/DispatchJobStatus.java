@@ -0,0 +1,13 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.model;
+
+public enum DispatchJobStatus {
+    /**
+     * Waiting to be claimed, or claimed and not finished yet.
+     */
+    PENDING,
+    DONE,
+    /**
+     * Gave up after the maximum number of attempts.
+     */
+    DEAD
+}
@@ -0,0 +1,30 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.model;
+
+public enum MaintenancePriority {
+    LOW(0),
+    NORMAL(1),
+    HIGH(2),
+    EMERGENCY(3);
+
+    private final int rank;
+
+    MaintenancePriority(int rank) {
+        this.rank = rank;
+    }
+
+    /**
+     * Higher is more urgent.
+     */
+    public int rank() {
+        return rank;
+    }
+
+    public static MaintenancePriority ofRank(int rank) {
+        for (MaintenancePriority priority : values()) {
+            if (priority.rank == rank) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("No maintenance priority has rank " + rank);
+    }
+}
@@ -0,0 +1,54 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.model;
+
+import dev.ganeshpalankar.rentals_backend.common.persistence.VersionedEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "maintenance_requests", indexes = {
+        @Index(name = "idx_maintenance_requests_unit_id", columnList = "unit_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class MaintenanceRequest extends VersionedEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "unit_id", nullable = false, updatable = false)
+    private Long unitId;
+
+    /**
+     * Owner of the unit.
+     */
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 16)
+    private MaintenancePriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private MaintenanceRequestStatus status;
+
+    /**
+     * When the request must have been dispatched by, from its priority's SLA.
+     */
+    @Column(name = "sla_deadline", nullable = false)
+    private Instant slaDeadline;
+
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+}
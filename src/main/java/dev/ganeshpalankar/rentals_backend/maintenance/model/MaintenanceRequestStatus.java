@@ -0,0 +1,13 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.model;
+
+public enum MaintenanceRequestStatus {
+    /**
+     * Waiting in the dispatch queue.
+     */
+    OPEN,
+    DISPATCHED,
+    /**
+     * Every dispatch attempt failed; the request needs manual attention.
+     */
+    DISPATCH_FAILED
+}
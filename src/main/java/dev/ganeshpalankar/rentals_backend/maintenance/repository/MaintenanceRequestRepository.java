@@ -0,0 +1,12 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.repository;
+
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface MaintenanceRequestRepository extends JpaRepository<MaintenanceRequest, Long> {
+    Optional<MaintenanceRequest> findByIdAndOwnerId(Long id, Long ownerId);
+}
@@ -0,0 +1,11 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+/**
+ * Hands a maintenance request to a contractor.
+ * A job is dispatched at least once: if its worker dies or its claim times out before the job is finished,
+ * another worker dispatches it again, so implementations must treat the request id as an idempotency key.
+ * Throw to have the job retried after a backoff.
+ */
+public interface ContractorDispatcher {
+    void dispatch(DispatchJob job);
+}
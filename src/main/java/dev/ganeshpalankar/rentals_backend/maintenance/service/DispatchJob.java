@@ -0,0 +1,11 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+
+import java.time.Instant;
+
+/**
+ * A claimed dispatch job. {@code attempt} is the claim this job is held under; only the holder of the latest
+ * claim can finish it.
+ */
+public record DispatchJob(long id, long requestId, MaintenancePriority priority, Instant slaDeadline, int attempt) {}
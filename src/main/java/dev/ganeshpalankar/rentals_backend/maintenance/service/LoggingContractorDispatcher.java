@@ -0,0 +1,17 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records dispatches in the log until a contractor integration replaces it.
+ */
+@Slf4j
+@Component
+public class LoggingContractorDispatcher implements ContractorDispatcher {
+
+    @Override
+    public void dispatch(DispatchJob job) {
+        log.info("Dispatching maintenance request {} ({}, due {})", job.requestId(), job.priority(), job.slaDeadline());
+    }
+}
@@ -0,0 +1,179 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+import dev.ganeshpalankar.rentals_backend.common.outbox.Outbox;
+import dev.ganeshpalankar.rentals_backend.maintenance.config.MaintenanceProperties;
+import dev.ganeshpalankar.rentals_backend.maintenance.event.MaintenanceRequestUpdated;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.DispatchJobStatus;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequestStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * The maintenance dispatch queue, stored in {@code maintenance_dispatch_jobs}.
+ * <p>
+ * Workers claim jobs a batch at a time with {@code SELECT ... FOR UPDATE SKIP LOCKED}: rows locked by another
+ * worker's claim are passed over instead of waited on, so any number of workers can claim concurrently without
+ * queueing behind each other's locks. A claim hides its jobs for the visibility timeout and commits at once;
+ * no lock is held while a job is being dispatched. Jobs are served earliest SLA deadline first, then by
+ * priority. Deadlines follow from priority, so urgent requests go first unless older, less urgent ones are
+ * about to breach their SLA. Finishing a job announces the request's new status through the {@link Outbox}.
+ * <p>
+ * PostgreSQL reads the claim from the head of {@code idx_maintenance_dispatch_jobs_claim}. H2 never orders a
+ * {@code FOR UPDATE} query by index, so there a claim sorts every pending job; batching spreads that cost.
+ */
+@Component
+@RequiredArgsConstructor
+public class MaintenanceDispatchQueue {
+
+    private static final String INSERT_JOB = """
+            INSERT INTO maintenance_dispatch_jobs (request_id, priority, sla_deadline, status, attempts, visible_at,
+                                                   created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, ?, ?, ?)""";
+
+    private static final String SELECT_CLAIMABLE = """
+            SELECT id, request_id, priority, sla_deadline, attempts
+            FROM maintenance_dispatch_jobs
+            WHERE status = ? AND visible_at <= ?
+            ORDER BY sla_deadline, priority DESC, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+
+    private static final String CLAIM = """
+            UPDATE maintenance_dispatch_jobs
+            SET attempts = attempts + 1, claimed_by = ?, visible_at = ?, updated_at = ?
+            WHERE id = ?""";
+
+    private static final String FINISH = """
+            UPDATE maintenance_dispatch_jobs
+            SET status = ?, last_error = ?, completed_at = ?, updated_at = ?
+            WHERE id = ? AND attempts = ? AND status = ?""";
+
+    private static final String RETRY = """
+            UPDATE maintenance_dispatch_jobs
+            SET visible_at = ?, last_error = ?, claimed_by = NULL, updated_at = ?
+            WHERE id = ? AND attempts = ? AND status = ?""";
+
+    private static final String UPDATE_REQUEST = """
+            UPDATE maintenance_requests
+            SET status = ?, dispatched_at = ?, updated_at = ?, version = version + 1
+            WHERE id = ?""";
+
+    private static final String SELECT_REQUEST = """
+            SELECT unit_id, owner_id
+            FROM maintenance_requests
+            WHERE id = ?""";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MaintenanceProperties properties;
+    private final Outbox outbox;
+
+    /**
+     * Queue {@code request} for dispatch, in the transaction that creates it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(MaintenanceRequest request) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_JOB, request.getId(), request.getPriority().rank(),
+                Timestamp.from(request.getSlaDeadline()), DispatchJobStatus.PENDING.name(), now, now, now);
+    }
+
+    /**
+     * Claim up to {@code limit} jobs for {@code workerId}, hiding them from other workers for the visibility
+     * timeout.
+     */
+    public List<DispatchJob> claim(String workerId, int limit) {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<DispatchJob> jobs = jdbcTemplate.query(SELECT_CLAIMABLE, (rs, row) -> new DispatchJob(
+                            rs.getLong("id"),
+                            rs.getLong("request_id"),
+                            MaintenancePriority.ofRank(rs.getInt("priority")),
+                            rs.getObject("sla_deadline", OffsetDateTime.class).toInstant(),
+                            rs.getInt("attempts") + 1),
+                    DispatchJobStatus.PENDING.name(), Timestamp.from(now), limit);
+            if (!jobs.isEmpty()) {
+                Timestamp visibleAt = Timestamp.from(now.plus(properties.getDispatch().getVisibilityTimeout()));
+                Timestamp updatedAt = Timestamp.from(now);
+                jdbcTemplate.batchUpdate(CLAIM, jobs, jobs.size(), (ps, job) -> {
+                    ps.setString(1, workerId);
+                    ps.setTimestamp(2, visibleAt);
+                    ps.setTimestamp(3, updatedAt);
+                    ps.setLong(4, job.id());
+                });
+            }
+            return jobs;
+        });
+    }
+
+    /**
+     * Mark {@code job} dispatched. Returns false if the claim had expired and the job was claimed again, in
+     * which case the newer claim finishes it.
+     */
+    public boolean complete(DispatchJob job) {
+        return finish(job, DispatchJobStatus.DONE, MaintenanceRequestStatus.DISPATCHED, null);
+    }
+
+    /**
+     * Give up on {@code job}, leaving its request for manual attention.
+     */
+    public boolean giveUp(DispatchJob job, String error) {
+        return finish(job, DispatchJobStatus.DEAD, MaintenanceRequestStatus.DISPATCH_FAILED, error);
+    }
+
+    /**
+     * Release {@code job} to be claimed again after a backoff that doubles with every attempt.
+     */
+    public boolean retry(DispatchJob job, String error) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Duration backoff = properties.getDispatch().getRetryBackoff()
+                    .multipliedBy(1L << Math.min(job.attempt() - 1, 20));
+            return jdbcTemplate.update(RETRY, Timestamp.from(now.plus(backoff)), truncate(error),
+                    Timestamp.from(now), job.id(), job.attempt(), DispatchJobStatus.PENDING.name()) == 1;
+        }));
+    }
+
+    private boolean finish(DispatchJob job, DispatchJobStatus jobStatus, MaintenanceRequestStatus requestStatus,
+                           String error) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            int updated = jdbcTemplate.update(FINISH, jobStatus.name(), truncate(error), now, now, job.id(),
+                    job.attempt(), DispatchJobStatus.PENDING.name());
+            if (updated == 0) {
+                return false;
+            }
+            jdbcTemplate.update(UPDATE_REQUEST, requestStatus.name(),
+                    requestStatus == MaintenanceRequestStatus.DISPATCHED ? now : null, now, job.requestId());
+            MaintenanceRequestUpdated event = jdbcTemplate.queryForObject(SELECT_REQUEST,
+                    (rs, row) -> new MaintenanceRequestUpdated(job.requestId(), rs.getLong("unit_id"),
+                            rs.getLong("owner_id"), job.priority(), requestStatus, job.slaDeadline(),
+                            now.toInstant()),
+                    job.requestId());
+            outbox.append(MaintenanceRequestUpdated.AGGREGATE_TYPE, job.requestId(),
+                    requestStatus == MaintenanceRequestStatus.DISPATCHED
+                            ? MaintenanceRequestUpdated.DISPATCHED
+                            : MaintenanceRequestUpdated.DISPATCH_FAILED,
+                    event);
+            return true;
+        }));
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
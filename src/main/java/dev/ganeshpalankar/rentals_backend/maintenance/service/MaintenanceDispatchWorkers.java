@@ -0,0 +1,21 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+import dev.ganeshpalankar.rentals_backend.common.worker.PollingWorkers;
+import dev.ganeshpalankar.rentals_backend.maintenance.config.MaintenanceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background threads that drain the maintenance dispatch queue. Stopping waits up to the visibility timeout for
+ * batches in progress; after that their jobs are claimed again anyway.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rentals.maintenance.dispatch", name = "workers-enabled", matchIfMissing = true)
+public class MaintenanceDispatchWorkers extends PollingWorkers {
+
+    public MaintenanceDispatchWorkers(MaintenanceDispatcher dispatcher, MaintenanceProperties properties) {
+        super("maintenance-dispatch", properties.getDispatch().getWorkers(),
+                properties.getDispatch().getPollInterval(), properties.getDispatch().getVisibilityTimeout(),
+                dispatcher::dispatchBatch);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+import dev.ganeshpalankar.rentals_backend.maintenance.config.MaintenanceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Claims a batch of dispatch jobs and hands each to the {@link ContractorDispatcher}.
+ * Finished jobs are counted in {@code rentals.maintenance.dispatch.jobs}, tagged by outcome.
+ */
+@Slf4j
+@Service
+public class MaintenanceDispatcher {
+
+    static final String METER_NAME = "rentals.maintenance.dispatch.jobs";
+
+    private final MaintenanceDispatchQueue queue;
+    private final ContractorDispatcher contractorDispatcher;
+    private final MaintenanceProperties properties;
+    private final Counter dispatched;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter superseded;
+
+    public MaintenanceDispatcher(MaintenanceDispatchQueue queue,
+                                 ContractorDispatcher contractorDispatcher,
+                                 MaintenanceProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.queue = queue;
+        this.contractorDispatcher = contractorDispatcher;
+        this.properties = properties;
+        this.dispatched = jobCounter(meterRegistry, "dispatched");
+        this.retried = jobCounter(meterRegistry, "retried");
+        this.failed = jobCounter(meterRegistry, "failed");
+        this.superseded = jobCounter(meterRegistry, "superseded");
+    }
+
+    /**
+     * Claim and dispatch one batch of jobs for {@code workerId}. Returns the number of jobs claimed; zero means
+     * the queue had nothing due.
+     */
+    public int dispatchBatch(String workerId) {
+        MaintenanceProperties.Dispatch dispatch = properties.getDispatch();
+        List<DispatchJob> jobs = queue.claim(workerId, dispatch.getBatchSize());
+        for (DispatchJob job : jobs) {
+            if (job.attempt() > dispatch.getMaxAttempts()) {
+                // Claimed and abandoned too often, e.g. because dispatching it kills the worker
+                record(queue.giveUp(job, "Claim expired " + dispatch.getMaxAttempts() + " times"), failed);
+                continue;
+            }
+            try {
+                contractorDispatcher.dispatch(job);
+            } catch (RuntimeException ex) {
+                log.warn("Dispatching maintenance request {} failed on attempt {}: {}",
+                        job.requestId(), job.attempt(), ex.toString());
+                if (job.attempt() >= dispatch.getMaxAttempts()) {
+                    record(queue.giveUp(job, ex.toString()), failed);
+                } else {
+                    record(queue.retry(job, ex.toString()), retried);
+                }
+                continue;
+            }
+            record(queue.complete(job), dispatched);
+        }
+        return jobs.size();
+    }
+
+    private void record(boolean finished, Counter outcome) {
+        // A job whose claim expired while it was being dispatched belongs to whoever claimed it next
+        (finished ? outcome : superseded).increment();
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METER_NAME)
+                .description("Maintenance dispatch jobs finished by this instance")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.ganeshpalankar.rentals_backend.maintenance.service;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.outbox.Outbox;
+import dev.ganeshpalankar.rentals_backend.maintenance.config.MaintenanceProperties;
+import dev.ganeshpalankar.rentals_backend.maintenance.dto.SubmitMaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.event.MaintenanceRequestUpdated;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequestStatus;
+import dev.ganeshpalankar.rentals_backend.maintenance.repository.MaintenanceRequestRepository;
+import dev.ganeshpalankar.rentals_backend.properties.model.Unit;
+import dev.ganeshpalankar.rentals_backend.properties.repository.UnitRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class MaintenanceRequestService {
+
+    private final MaintenanceRequestRepository requestRepository;
+    private final UnitRepository unitRepository;
+    private final MaintenanceDispatchQueue dispatchQueue;
+    private final MaintenanceProperties properties;
+    private final Outbox outbox;
+
+    /**
+     * Record a maintenance request for one of the owner's units, queue it for dispatch and announce it through the
+     * outbox, in one transaction.
+     * Its SLA deadline follows from its priority.
+     */
+    @Transactional
+    public MaintenanceRequest submit(Long ownerId, Long unitId, SubmitMaintenanceRequest request) {
+        Unit unit = unitRepository.findByIdAndOwnerId(unitId, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException(unitId, "Unit"));
+        MaintenancePriority priority = MaintenancePriority.valueOf(request.getPriority().toUpperCase(Locale.ROOT));
+
+        MaintenanceRequest maintenanceRequest = new MaintenanceRequest();
+        maintenanceRequest.setUnitId(unit.getId());
+        maintenanceRequest.setOwnerId(ownerId);
+        maintenanceRequest.setTitle(request.getTitle());
+        maintenanceRequest.setDescription(request.getDescription());
+        maintenanceRequest.setPriority(priority);
+        maintenanceRequest.setStatus(MaintenanceRequestStatus.OPEN);
+        maintenanceRequest.setSlaDeadline(Instant.now().plus(properties.getSla().get(priority)));
+        MaintenanceRequest savedRequest = requestRepository.save(maintenanceRequest);
+
+        dispatchQueue.enqueue(savedRequest);
+        outbox.append(MaintenanceRequestUpdated.AGGREGATE_TYPE, savedRequest.getId(),
+                MaintenanceRequestUpdated.SUBMITTED, new MaintenanceRequestUpdated(savedRequest.getId(),
+                        savedRequest.getUnitId(), ownerId, priority, savedRequest.getStatus(),
+                        savedRequest.getSlaDeadline(), savedRequest.getCreatedAt()));
+        return savedRequest;
+    }
+
+    @Transactional(readOnly = true)
+    public MaintenanceRequest getRequest(Long ownerId, Long requestId) {
+        return requestRepository.findByIdAndOwnerId(requestId, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException(requestId, "Maintenance request"));
+    }
+}
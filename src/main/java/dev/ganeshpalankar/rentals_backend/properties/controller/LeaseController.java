@@ -0,0 +1,41 @@
+package dev.ganeshpalankar.rentals_backend.properties.controller;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.properties.dto.StartLeaseRequest;
+import dev.ganeshpalankar.rentals_backend.properties.model.Lease;
+import dev.ganeshpalankar.rentals_backend.properties.service.LeaseService;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+public class LeaseController {
+    @Autowired
+    private LeaseService leaseService;
+
+    @PostMapping("/units/{unitId}/leases")
+    public ResponseEntity<ApiResponse<Lease>> startLease(@PathVariable Long unitId,
+                                                         @Valid @RequestBody StartLeaseRequest request,
+                                                         CurrentUser currentUser) {
+        Lease lease = leaseService.startLease(currentUser.getUserId(), unitId, request);
+        return ResponseBuilder.<Lease>create()
+                .status(HttpStatus.CREATED)
+                .message("Lease started successfully")
+                .data(lease)
+                .build();
+    }
+
+    @PostMapping("/leases/{leaseId}/end")
+    public ResponseEntity<ApiResponse<Lease>> endLease(@PathVariable Long leaseId, CurrentUser currentUser) {
+        Lease lease = leaseService.endLease(currentUser.getUserId(), leaseId);
+        return ResponseBuilder.<Lease>create()
+                .status(HttpStatus.OK)
+                .message("Lease ended successfully")
+                .data(lease)
+                .build();
+    }
+}
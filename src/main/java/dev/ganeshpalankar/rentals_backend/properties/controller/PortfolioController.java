@@ -0,0 +1,32 @@
+package dev.ganeshpalankar.rentals_backend.properties.controller;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.properties.dto.PortfolioSummary;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioSummaryService;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/portfolio")
+public class PortfolioController {
+    @Autowired
+    private PortfolioSummaryService portfolioSummaryService;
+
+    /**
+     * Dashboard counts of the current user's properties, read from the precomputed summary.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<PortfolioSummary>> getSummary(CurrentUser currentUser) {
+        PortfolioSummary summary = portfolioSummaryService.getSummary(currentUser.getUserId());
+        return ResponseBuilder.<PortfolioSummary>create()
+                .status(HttpStatus.OK)
+                .data(summary)
+                .build();
+    }
+}
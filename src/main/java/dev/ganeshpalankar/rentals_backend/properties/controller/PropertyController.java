@@ -0,0 +1,45 @@
+package dev.ganeshpalankar.rentals_backend.properties.controller;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.model.Property;
+import dev.ganeshpalankar.rentals_backend.properties.model.Unit;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/properties")
+public class PropertyController {
+    @Autowired
+    private PropertyService propertyService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<Property>> createProperty(@Valid @RequestBody CreatePropertyRequest request,
+                                                                CurrentUser currentUser) {
+        Property property = propertyService.createProperty(currentUser.getUserId(), request);
+        return ResponseBuilder.<Property>create()
+                .status(HttpStatus.CREATED)
+                .message("Property created successfully")
+                .data(property)
+                .build();
+    }
+
+    @PostMapping("/{propertyId}/units")
+    public ResponseEntity<ApiResponse<Unit>> addUnit(@PathVariable Long propertyId,
+                                                     @Valid @RequestBody CreateUnitRequest request,
+                                                     CurrentUser currentUser) {
+        Unit unit = propertyService.addUnit(currentUser.getUserId(), propertyId, request);
+        return ResponseBuilder.<Unit>create()
+                .status(HttpStatus.CREATED)
+                .message("Unit created successfully")
+                .data(unit)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package dev.ganeshpalankar.rentals_backend.properties.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreatePropertyRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    @Size(max = 255)
+    private String addressLine;
+
+    @Size(max = 100)
+    private String city;
+}
@@ -0,0 +1,21 @@
+package dev.ganeshpalankar.rentals_backend.properties.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateUnitRequest {
+    /**
+     * Name of the unit within its property, e.g. "Apt 2B". Unique per property.
+     */
+    @NotBlank
+    @Size(max = 100)
+    private String label;
+}
@@ -0,0 +1,44 @@
+package dev.ganeshpalankar.rentals_backend.properties.dto;
+
+import dev.ganeshpalankar.rentals_backend.properties.model.OwnerPortfolioSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Landlord dashboard counts of one owner.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PortfolioSummary {
+    private int propertyCount;
+    private int unitCount;
+    private int occupiedUnitCount;
+    private int vacantUnitCount;
+    private int activeLeaseCount;
+    private long outstandingRentCents;
+    private Instant updatedAt;
+
+    public static PortfolioSummary from(OwnerPortfolioSummary summary) {
+        return new PortfolioSummary(
+                summary.getPropertyCount(),
+                summary.getUnitCount(),
+                summary.getOccupiedUnitCount(),
+                summary.getUnitCount() - summary.getOccupiedUnitCount(),
+                summary.getActiveLeaseCount(),
+                summary.getOutstandingRentCents(),
+                summary.getUpdatedAt());
+    }
+
+    /**
+     * Summary of an owner who has not added any property yet.
+     */
+    public static PortfolioSummary empty() {
+        return new PortfolioSummary();
+    }
+}
@@ -0,0 +1,32 @@
+package dev.ganeshpalankar.rentals_backend.properties.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StartLeaseRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String tenantName;
+
+    /**
+     * Rent due each month, in cents.
+     */
+    @NotNull
+    @Positive
+    private Long monthlyRentCents;
+
+    @NotNull
+    private LocalDate startDate;
+}
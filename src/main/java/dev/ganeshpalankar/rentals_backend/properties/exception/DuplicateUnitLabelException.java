@@ -0,0 +1,20 @@
+package dev.ganeshpalankar.rentals_backend.properties.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ApplicationException;
+import lombok.Getter;
+
+/**
+ * Exception thrown when adding a unit whose label is already used by another unit of the same property.
+ */
+@Getter
+public class DuplicateUnitLabelException extends ApplicationException {
+
+    private final Long propertyId;
+    private final String label;
+
+    public DuplicateUnitLabelException(Long propertyId, String label) {
+        super();
+        this.propertyId = propertyId;
+        this.label = label;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.ganeshpalankar.rentals_backend.properties.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
+import dev.ganeshpalankar.rentals_backend.common.exception.ExceptionResponseHandler;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Handler for DuplicateUnitLabelException that generates appropriate error responses.
+ */
+@Component
+public class DuplicateUnitLabelExceptionHandler implements ExceptionResponseHandler<DuplicateUnitLabelException> {
+
+    @Override
+    public ErrorResponse handle(DuplicateUnitLabelException exception, HttpServletRequest request) {
+        ErrorDetail errorDetail = new ErrorDetail();
+        errorDetail.setCode("UNIT_LABEL_TAKEN");
+        errorDetail.setType(ErrorType.BUSINESS_LOGIC_ERROR.toString());
+        errorDetail.setDetails(String.format("Property with ID '%s' already has a unit labelled '%s'",
+                exception.getPropertyId(), exception.getLabel()));
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setStatus(409);
+        errorResponse.setMessage("Unit could not be created");
+        errorResponse.setError(errorDetail);
+        errorResponse.setPath(request.getRequestURI());
+        errorResponse.setMethod(request.getMethod());
+        errorResponse.setFieldErrors(new ArrayList<>());
+        errorResponse.setTimestamp(Instant.now());
+
+        return errorResponse;
+    }
+}
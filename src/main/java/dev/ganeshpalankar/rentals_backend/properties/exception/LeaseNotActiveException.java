@@ -0,0 +1,18 @@
+package dev.ganeshpalankar.rentals_backend.properties.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ApplicationException;
+import lombok.Getter;
+
+/**
+ * Exception thrown when ending a lease that has already ended.
+ */
+@Getter
+public class LeaseNotActiveException extends ApplicationException {
+
+    private final Long leaseId;
+
+    public LeaseNotActiveException(Long leaseId) {
+        super();
+        this.leaseId = leaseId;
+    }
+}
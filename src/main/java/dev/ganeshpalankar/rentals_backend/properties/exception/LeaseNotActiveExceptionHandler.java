@@ -0,0 +1,37 @@
+package dev.ganeshpalankar.rentals_backend.properties.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
+import dev.ganeshpalankar.rentals_backend.common.exception.ExceptionResponseHandler;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Handler for LeaseNotActiveException that generates appropriate error responses.
+ */
+@Component
+public class LeaseNotActiveExceptionHandler implements ExceptionResponseHandler<LeaseNotActiveException> {
+
+    @Override
+    public ErrorResponse handle(LeaseNotActiveException exception, HttpServletRequest request) {
+        ErrorDetail errorDetail = new ErrorDetail();
+        errorDetail.setCode("LEASE_NOT_ACTIVE");
+        errorDetail.setType(ErrorType.BUSINESS_LOGIC_ERROR.toString());
+        errorDetail.setDetails(String.format("Lease with ID '%s' has already ended", exception.getLeaseId()));
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setStatus(409);
+        errorResponse.setMessage("Lease could not be ended");
+        errorResponse.setError(errorDetail);
+        errorResponse.setPath(request.getRequestURI());
+        errorResponse.setMethod(request.getMethod());
+        errorResponse.setFieldErrors(new ArrayList<>());
+        errorResponse.setTimestamp(Instant.now());
+
+        return errorResponse;
+    }
+}
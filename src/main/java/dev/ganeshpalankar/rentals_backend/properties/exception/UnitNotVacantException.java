@@ -0,0 +1,18 @@
+package dev.ganeshpalankar.rentals_backend.properties.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ApplicationException;
+import lombok.Getter;
+
+/**
+ * Exception thrown when starting a lease on a unit that already has an active lease.
+ */
+@Getter
+public class UnitNotVacantException extends ApplicationException {
+
+    private final Long unitId;
+
+    public UnitNotVacantException(Long unitId) {
+        super();
+        this.unitId = unitId;
+    }
+}
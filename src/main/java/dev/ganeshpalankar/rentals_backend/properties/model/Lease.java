@@ -0,0 +1,50 @@
+package dev.ganeshpalankar.rentals_backend.properties.model;
+
+import dev.ganeshpalankar.rentals_backend.common.persistence.VersionedEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "leases", indexes = {
+        @Index(name = "idx_leases_unit_id", columnList = "unit_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Lease extends VersionedEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "unit_id", nullable = false, updatable = false)
+    private Long unitId;
+
+    /**
+     * Owner of the leased unit.
+     */
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "tenant_name", nullable = false)
+    private String tenantName;
+
+    /**
+     * Rent due each month, in cents.
+     */
+    @Column(name = "monthly_rent_cents", nullable = false)
+    private long monthlyRentCents;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private LeaseStatus status;
+}
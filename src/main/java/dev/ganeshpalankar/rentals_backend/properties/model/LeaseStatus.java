@@ -0,0 +1,6 @@
+package dev.ganeshpalankar.rentals_backend.properties.model;
+
+public enum LeaseStatus {
+    ACTIVE,
+    ENDED
+}
@@ -0,0 +1,48 @@
+package dev.ganeshpalankar.rentals_backend.properties.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Per-owner counts behind the landlord dashboard.
+ * This is a read model: it is never loaded and saved by write paths, which instead adjust the counts in place
+ * (see {@code OwnerPortfolioSummaryRepository#applyDelta}) in the same transaction as the change they count.
+ */
+@Entity
+@Table(name = "owner_portfolio_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OwnerPortfolioSummary {
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "property_count", nullable = false)
+    private int propertyCount;
+
+    @Column(name = "unit_count", nullable = false)
+    private int unitCount;
+
+    @Column(name = "occupied_unit_count", nullable = false)
+    private int occupiedUnitCount;
+
+    @Column(name = "active_lease_count", nullable = false)
+    private int activeLeaseCount;
+
+    /**
+     * Rent charged to the owner's tenants and not yet paid, in cents.
+     */
+    @Column(name = "outstanding_rent_cents", nullable = false)
+    private long outstandingRentCents;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
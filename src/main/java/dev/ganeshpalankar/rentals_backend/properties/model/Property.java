@@ -0,0 +1,35 @@
+package dev.ganeshpalankar.rentals_backend.properties.model;
+
+import dev.ganeshpalankar.rentals_backend.common.persistence.VersionedEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "properties", indexes = {
+        @Index(name = "idx_properties_owner_id", columnList = "owner_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Property extends VersionedEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Id of the {@code User} who owns the property.
+     */
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "address_line")
+    private String addressLine;
+
+    @Column(name = "city", length = 100)
+    private String city;
+}
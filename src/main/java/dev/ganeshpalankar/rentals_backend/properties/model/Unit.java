@@ -0,0 +1,36 @@
+package dev.ganeshpalankar.rentals_backend.properties.model;
+
+import dev.ganeshpalankar.rentals_backend.common.persistence.VersionedEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "units", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_units_property_label", columnNames = {"property_id", "label"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Unit extends VersionedEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false, updatable = false)
+    private Long propertyId;
+
+    /**
+     * Owner of the unit's property.
+     */
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "label", nullable = false, length = 100)
+    private String label;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private UnitStatus status;
+}
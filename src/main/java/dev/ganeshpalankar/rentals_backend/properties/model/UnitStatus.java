@@ -0,0 +1,9 @@
+package dev.ganeshpalankar.rentals_backend.properties.model;
+
+public enum UnitStatus {
+    VACANT,
+    /**
+     * The unit has an active lease.
+     */
+    OCCUPIED
+}
@@ -0,0 +1,13 @@
+package dev.ganeshpalankar.rentals_backend.properties.repository;
+
+import dev.ganeshpalankar.rentals_backend.properties.model.Lease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface LeaseRepository extends JpaRepository<Lease, Long> {
+    // Scoped to the owner, so another owner's ids look the same as missing ones
+    Optional<Lease> findByIdAndOwnerId(Long id, Long ownerId);
+}
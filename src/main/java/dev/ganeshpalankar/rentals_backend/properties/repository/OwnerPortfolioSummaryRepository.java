@@ -0,0 +1,29 @@
+package dev.ganeshpalankar.rentals_backend.properties.repository;
+
+import dev.ganeshpalankar.rentals_backend.properties.model.OwnerPortfolioSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Transactional(readOnly = true)
+public interface OwnerPortfolioSummaryRepository extends JpaRepository<OwnerPortfolioSummary, Long> {
+
+    // Adjusts the counts in the database rather than read-modify-write, so concurrent writers of one owner
+    // serialize on the row lock for the rest of their transaction instead of failing on a stale read
+    @Transactional
+    @Modifying
+    @Query("""
+            update OwnerPortfolioSummary s set
+                s.propertyCount = s.propertyCount + :properties,
+                s.unitCount = s.unitCount + :units,
+                s.occupiedUnitCount = s.occupiedUnitCount + :occupiedUnits,
+                s.activeLeaseCount = s.activeLeaseCount + :activeLeases,
+                s.outstandingRentCents = s.outstandingRentCents + :outstandingRentCents,
+                s.updatedAt = :updatedAt
+            where s.ownerId = :ownerId""")
+    int applyDelta(Long ownerId, int properties, int units, int occupiedUnits, int activeLeases,
+                   long outstandingRentCents, Instant updatedAt);
+}
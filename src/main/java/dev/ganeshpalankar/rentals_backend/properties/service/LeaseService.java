@@ -0,0 +1,85 @@
+package dev.ganeshpalankar.rentals_backend.properties.service;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.persistence.OptimisticLockRetry;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentLedgerService;
+import dev.ganeshpalankar.rentals_backend.properties.dto.StartLeaseRequest;
+import dev.ganeshpalankar.rentals_backend.properties.exception.LeaseNotActiveException;
+import dev.ganeshpalankar.rentals_backend.properties.exception.UnitNotVacantException;
+import dev.ganeshpalankar.rentals_backend.properties.model.Lease;
+import dev.ganeshpalankar.rentals_backend.properties.model.LeaseStatus;
+import dev.ganeshpalankar.rentals_backend.properties.model.Unit;
+import dev.ganeshpalankar.rentals_backend.properties.model.UnitStatus;
+import dev.ganeshpalankar.rentals_backend.properties.repository.LeaseRepository;
+import dev.ganeshpalankar.rentals_backend.properties.repository.UnitRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Starts and ends leases. Both change the unit's status, which is what keeps a unit to one active lease:
+ * of two concurrent requests for one unit, the second fails its version check, is retried, and then finds the
+ * unit's new status. The unit is always written first, and the portfolio summary last.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaseService {
+
+    private final UnitRepository unitRepository;
+    private final LeaseRepository leaseRepository;
+    private final PortfolioSummaryService portfolioSummaryService;
+    private final RentLedgerService rentLedgerService;
+    private final OptimisticLockRetry optimisticLockRetry;
+
+    public Lease startLease(Long ownerId, Long unitId, StartLeaseRequest request) {
+        return optimisticLockRetry.execute(() -> {
+            Unit unit = unitRepository.findByIdAndOwnerId(unitId, ownerId)
+                    .orElseThrow(() -> new ResourceNotFoundException(unitId, "Unit"));
+            if (unit.getStatus() != UnitStatus.VACANT) {
+                throw new UnitNotVacantException(unitId);
+            }
+            unit.setStatus(UnitStatus.OCCUPIED);
+            unitRepository.saveAndFlush(unit);
+
+            Lease lease = new Lease();
+            lease.setUnitId(unitId);
+            lease.setOwnerId(ownerId);
+            lease.setTenantName(request.getTenantName());
+            lease.setMonthlyRentCents(request.getMonthlyRentCents());
+            lease.setStartDate(request.getStartDate());
+            lease.setStatus(LeaseStatus.ACTIVE);
+            Lease savedLease = leaseRepository.save(lease);
+            rentLedgerService.openLedger(savedLease);
+
+            portfolioSummaryService.applyDelta(ownerId, PortfolioDelta.LEASE_STARTED);
+            return savedLease;
+        });
+    }
+
+    /**
+     * End an active lease today, or on its start date if it hasn't started yet, and free its unit.
+     */
+    public Lease endLease(Long ownerId, Long leaseId) {
+        return optimisticLockRetry.execute(() -> {
+            Lease lease = leaseRepository.findByIdAndOwnerId(leaseId, ownerId)
+                    .orElseThrow(() -> new ResourceNotFoundException(leaseId, "Lease"));
+            if (lease.getStatus() != LeaseStatus.ACTIVE) {
+                throw new LeaseNotActiveException(leaseId);
+            }
+
+            Unit unit = unitRepository.findById(lease.getUnitId())
+                    .orElseThrow(() -> new ResourceNotFoundException(lease.getUnitId(), "Unit"));
+            unit.setStatus(UnitStatus.VACANT);
+            unitRepository.saveAndFlush(unit);
+
+            LocalDate today = LocalDate.now();
+            lease.setEndDate(today.isBefore(lease.getStartDate()) ? lease.getStartDate() : today);
+            lease.setStatus(LeaseStatus.ENDED);
+            Lease endedLease = leaseRepository.saveAndFlush(lease);
+
+            portfolioSummaryService.applyDelta(ownerId, PortfolioDelta.LEASE_ENDED);
+            return endedLease;
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package dev.ganeshpalankar.rentals_backend.properties.service;
+
+/**
+ * Change to an owner's portfolio summary caused by one write.
+ */
+public record PortfolioDelta(int properties, int units, int occupiedUnits, int activeLeases,
+                             long outstandingRentCents) {
+
+    public static final PortfolioDelta PROPERTY_ADDED = new PortfolioDelta(1, 0, 0, 0, 0);
+    public static final PortfolioDelta UNIT_ADDED = new PortfolioDelta(0, 1, 0, 0, 0);
+    public static final PortfolioDelta LEASE_STARTED = new PortfolioDelta(0, 0, 1, 1, 0);
+    public static final PortfolioDelta LEASE_ENDED = new PortfolioDelta(0, 0, -1, -1, 0);
+
+    public static PortfolioDelta outstandingRent(long cents) {
+        return new PortfolioDelta(0, 0, 0, 0, cents);
+    }
+}
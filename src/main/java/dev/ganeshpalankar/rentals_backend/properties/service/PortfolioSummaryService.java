@@ -0,0 +1,68 @@
+package dev.ganeshpalankar.rentals_backend.properties.service;
+
+import dev.ganeshpalankar.rentals_backend.properties.dto.PortfolioSummary;
+import dev.ganeshpalankar.rentals_backend.properties.repository.OwnerPortfolioSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Maintains and serves the per-owner portfolio summary read model.
+ * Every write that changes one of the counts calls {@link #applyDelta} inside the transaction making the change,
+ * so the summary commits or rolls back together with it and reading the dashboard is a single-row lookup.
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioSummaryService {
+
+    private static final String INSERT_EMPTY_SUMMARY = """
+            INSERT INTO owner_portfolio_summaries (owner_id, property_count, unit_count, occupied_unit_count,
+                                                   active_lease_count, outstanding_rent_cents, updated_at)
+            VALUES (?, 0, 0, 0, 0, 0, ?)""";
+
+    private final OwnerPortfolioSummaryRepository summaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create the owner's summary row if it doesn't exist yet.
+     * Must be called outside of a transaction: the insert commits on its own, so losing the race against
+     * another request creating the same row doesn't fail the caller's transaction.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public void ensureSummary(Long ownerId) {
+        if (summaryRepository.existsById(ownerId)) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_EMPTY_SUMMARY, ownerId, Timestamp.from(Instant.now()));
+        } catch (DuplicateKeyException ex) {
+            // Created concurrently; either row is a correct starting point
+        }
+    }
+
+    /**
+     * Apply {@code delta} to the owner's summary as part of the current transaction.
+     * The row stays locked until the transaction ends, so keep the rest of the transaction short.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelta(Long ownerId, PortfolioDelta delta) {
+        int updated = summaryRepository.applyDelta(ownerId, delta.properties(), delta.units(),
+                delta.occupiedUnits(), delta.activeLeases(), delta.outstandingRentCents(), Instant.now());
+        if (updated == 0) {
+            throw new IllegalStateException("No portfolio summary exists for owner " + ownerId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PortfolioSummary getSummary(Long ownerId) {
+        return summaryRepository.findById(ownerId)
+                .map(PortfolioSummary::from)
+                .orElseGet(PortfolioSummary::empty);
+    }
+}
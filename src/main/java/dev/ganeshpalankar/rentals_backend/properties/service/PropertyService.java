@@ -0,0 +1,73 @@
+package dev.ganeshpalankar.rentals_backend.properties.service;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.exception.DuplicateUnitLabelException;
+import dev.ganeshpalankar.rentals_backend.properties.model.Property;
+import dev.ganeshpalankar.rentals_backend.properties.model.Unit;
+import dev.ganeshpalankar.rentals_backend.properties.model.UnitStatus;
+import dev.ganeshpalankar.rentals_backend.properties.repository.PropertyRepository;
+import dev.ganeshpalankar.rentals_backend.properties.repository.UnitRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class PropertyService {
+
+    private final PropertyRepository propertyRepository;
+    private final UnitRepository unitRepository;
+    private final PortfolioSummaryService portfolioSummaryService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Create a property owned by {@code ownerId}.
+     * A property is the first thing an owner creates, so this is where the owner's summary row is created,
+     * before and outside of the transaction that counts the property.
+     */
+    public Property createProperty(Long ownerId, CreatePropertyRequest request) {
+        portfolioSummaryService.ensureSummary(ownerId);
+
+        return transactionTemplate.execute(status -> {
+            Property property = new Property();
+            property.setOwnerId(ownerId);
+            property.setName(request.getName());
+            property.setAddressLine(request.getAddressLine());
+            property.setCity(request.getCity());
+            Property savedProperty = propertyRepository.save(property);
+
+            portfolioSummaryService.applyDelta(ownerId, PortfolioDelta.PROPERTY_ADDED);
+            return savedProperty;
+        });
+    }
+
+    /**
+     * Add a vacant unit to one of the owner's properties.
+     */
+    @Transactional
+    public Unit addUnit(Long ownerId, Long propertyId, CreateUnitRequest request) {
+        Property property = propertyRepository.findByIdAndOwnerId(propertyId, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException(propertyId, "Property"));
+
+        Unit unit = new Unit();
+        unit.setPropertyId(property.getId());
+        unit.setOwnerId(ownerId);
+        unit.setLabel(request.getLabel());
+        unit.setStatus(UnitStatus.VACANT);
+
+        // Let the unique constraint on (property_id, label) reject duplicates, as signup does for users
+        Unit savedUnit;
+        try {
+            savedUnit = unitRepository.saveAndFlush(unit);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DuplicateUnitLabelException(propertyId, request.getLabel());
+        }
+
+        portfolioSummaryService.applyDelta(ownerId, PortfolioDelta.UNIT_ADDED);
+        return savedUnit;
+    }
+}
@@ -0,0 +1,20 @@
+package dev.ganeshpalankar.rentals_backend.users.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the streaming user export.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.users.export")
+public class UserExportProperties {
+
+    /**
+     * Number of rows written between flushes of the response, so clients see progress
+     * and the servlet buffer never holds more than one chunk.
+     */
+    private int flushInterval = 1000;
+}
@@ -0,0 +1,33 @@
+package dev.ganeshpalankar.rentals_backend.users.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the in-process externalId to userId cache.
+ * Unregistered users are cached for a shorter time than registered ones
+ * so that a signup on another instance becomes visible quickly.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.users.id-cache")
+public class UserIdCacheProperties {
+
+    /**
+     * Maximum number of external IDs kept in the cache.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * How long a resolved user ID is kept.
+     */
+    private Duration registeredTtl = Duration.ofMinutes(10);
+
+    /**
+     * How long an unregistered external ID is remembered (negative caching).
+     */
+    private Duration unregisteredTtl = Duration.ofSeconds(30);
+}
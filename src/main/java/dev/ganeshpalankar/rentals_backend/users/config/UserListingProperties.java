@@ -0,0 +1,24 @@
+package dev.ganeshpalankar.rentals_backend.users.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the paginated user listing.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.users.listing")
+public class UserListingProperties {
+
+    /**
+     * Page size used when the client does not ask for one.
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * Upper bound on the page size; larger requests are capped to this.
+     */
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,19 @@
+package dev.ganeshpalankar.rentals_backend.users.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for bulk user provisioning.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rentals.users.provisioning")
+public class UserProvisioningProperties {
+
+    /**
+     * Number of external IDs checked and inserted per JDBC batch and transaction.
+     */
+    private int batchSize = 1000;
+}
@@ -0,0 +1,34 @@
+package dev.ganeshpalankar.rentals_backend.users.context;
+
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The registered user behind the current request.
+ * Resolved once by {@code RegisteredUserFilter} and stored as a request attribute,
+ * so services and controllers can read it without querying the database again.
+ * Controllers can declare it as a handler method argument.
+ */
+@Getter
+public class CurrentUser {
+
+    /**
+     * Request attribute under which the resolved user is stored.
+     */
+    public static final String REQUEST_ATTRIBUTE = CurrentUser.class.getName();
+
+    private final String externalId;
+    private final Long userId;
+
+    /**
+     * The full entity, if it has been loaded during this request.
+     */
+    @Setter
+    private User user;
+
+    public CurrentUser(String externalId, Long userId) {
+        this.externalId = externalId;
+        this.userId = userId;
+    }
+}
@@ -1,22 +1,51 @@
 package dev.ganeshpalankar.rentals_backend.users.controller;
 
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.pagination.CursorPage;
 import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ETags;
 import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import dev.ganeshpalankar.rentals_backend.users.dto.BulkProvisioningResult;
 import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserExportService;
+import dev.ganeshpalankar.rentals_backend.users.service.UserProvisioningService;
 import dev.ganeshpalankar.rentals_backend.users.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/users")
 public class UserController {
+    // Per-user data: caches may keep it but must revalidate with the ETag before each reuse
+    private static final CacheControl USER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final String USERS_READ = "SCOPE_users:read";
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private UserExportService userExportService;
+
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<User>> signup(Authentication authentication) {
         String externalId = extractExternalIdFromJwt(authentication);
@@ -28,20 +57,118 @@ public class UserController {
                 .build();
     }
 
+    /**
+     * Create users in bulk from a plain-text body with one external ID per line.
+     * Existing users are skipped. The body is streamed, so imports of any size are accepted.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.TEXT_PLAIN_VALUE)
+    @PreAuthorize("hasAuthority('SCOPE_users:provision')")
+    public ResponseEntity<ApiResponse<BulkProvisioningResult>> provisionUsers(Reader body) throws IOException {
+        BulkProvisioningResult result = userProvisioningService.provision(body);
+        return ResponseBuilder.<BulkProvisioningResult>create()
+                .status(HttpStatus.OK)
+                .message(String.format("%d user(s) created, %d skipped", result.getCreated(), result.getSkipped()))
+                .data(result)
+                .build();
+    }
+
+    /**
+     * List users newest first, one page at a time.
+     * Pass the {@code nextCursor} of a page back as {@code cursor} to fetch the one after it.
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('SCOPE_users:read')")
+    public ResponseEntity<ApiResponse<CursorPage<User>>> listUsers(
+            @RequestParam(required = false) String externalIdPrefix,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<User> page = userService.listUsers(externalIdPrefix, cursor, size);
+        return ResponseBuilder.<CursorPage<User>>create()
+                .status(HttpStatus.OK)
+                .data(page)
+                .build();
+    }
+
+    /**
+     * Export all users as newline-delimited JSON, ordered by id.
+     * The response is streamed rather than wrapped in an {@link ApiResponse}, and gzipped when the client accepts it.
+     * To resume an interrupted export, pass the id of the last user received as {@code afterId}.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('SCOPE_users:read')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) Long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                // Sync flush so each periodic flush reaches the client instead of sitting in the deflater.
+                // Closing finishes the stream and frees the deflater's native memory even when the export
+                // fails, and leaves the container's stream to the container
+                try (GZIPOutputStream gzipOutput = new GZIPOutputStream(StreamUtils.nonClosing(output), 8192, true)) {
+                    userExportService.exportUsers(afterId, gzipOutput);
+                }
+            } else {
+                userExportService.exportUsers(afterId, output);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Get a user by id. Users can read their own record; reading anyone else's needs {@code users:read}, and is
+     * otherwise answered with 404 so ids can't be probed. Responses carry a strong {@code ETag}; a request whose
+     * {@code If-None-Match} still matches is answered with 304 from the user's last-modified time alone, without
+     * loading the user.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<User>> getUserById(@PathVariable Long id) {
-        try {
-            User user = userService.findByExternalId(id.toString());
-            return ResponseBuilder.<User>create()
-                    .status(HttpStatus.OK)
-                    .data(user)
-                    .build();
-        } catch (RuntimeException e) {
-            return ResponseBuilder.<User>create()
-                    .status(HttpStatus.NOT_FOUND)
-                    .message("User not found")
+    public ResponseEntity<ApiResponse<User>> getUserById(@PathVariable Long id, WebRequest webRequest,
+                                                         CurrentUser currentUser, Authentication authentication) {
+        if (!id.equals(currentUser.getUserId()) && !hasAuthority(authentication, USERS_READ)) {
+            throw new ResourceNotFoundException(id, "User");
+        }
+        if (webRequest.checkNotModified(ETags.of(id, userService.getUpdatedAt(id)))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(USER_CACHE_CONTROL)
                     .build();
         }
+
+        User user = userService.findById(id);
+        return ResponseBuilder.<User>create()
+                .status(HttpStatus.OK)
+                .data(user)
+                .eTag(ETags.of(user.getId(), user.getUpdatedAt()))
+                .cacheControl(USER_CACHE_CONTROL)
+                .build();
+    }
+
+    private static boolean hasAuthority(Authentication authentication, String authority) {
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            if (authority.equals(granted.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     private String extractExternalIdFromJwt(Authentication authentication) {
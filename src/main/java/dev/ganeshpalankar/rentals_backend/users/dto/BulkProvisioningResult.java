@@ -0,0 +1,18 @@
+package dev.ganeshpalankar.rentals_backend.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of a bulk provisioning request.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkProvisioningResult {
+    private long created;
+    private long skipped;
+}
@@ -0,0 +1,12 @@
+package dev.ganeshpalankar.rentals_backend.users.event;
+
+import java.time.Instant;
+
+/**
+ * Published through the outbox when a user signs up.
+ */
+public record UserSignedUp(Long userId, String externalId, Instant signedUpAt) {
+
+    public static final String AGGREGATE_TYPE = "user";
+    public static final String EVENT_TYPE = "user.signed-up";
+}
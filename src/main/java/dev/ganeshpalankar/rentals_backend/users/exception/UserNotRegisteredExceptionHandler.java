@@ -4,6 +4,7 @@ import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
 import dev.ganeshpalankar.rentals_backend.common.exception.ExceptionResponseHandler;
 import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
 import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseTemplate;
 import org.springframework.stereotype.Component;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,21 +17,36 @@ import java.util.ArrayList;
 @Component
 public class UserNotRegisteredExceptionHandler implements ExceptionResponseHandler<UserNotRegisteredException> {
 
+    private static final int STATUS = 403;
+    private static final String MESSAGE = "User not registered";
+    private static final String CODE = "USER_NOT_REGISTERED";
+    private static final ErrorType TYPE = ErrorType.AUTHORIZATION_ERROR;
+
+    /**
+     * Pre-encoded form of the response, used where unregistered users are rejected before reaching a controller.
+     */
+    public static final ErrorResponseTemplate TEMPLATE = ErrorResponseTemplate.of(STATUS, MESSAGE, CODE, TYPE);
+
     @Override
     public ErrorResponse handle(UserNotRegisteredException exception, HttpServletRequest request) {
         ErrorDetail errorDetail = new ErrorDetail();
-        errorDetail.setCode("USER_NOT_REGISTERED");
-        errorDetail.setType(ErrorType.AUTHORIZATION_ERROR.toString());
-        errorDetail.setDetails(String.format("User with external ID '%s' is not registered. Please complete signup.", exception.getExternalId()));
+        errorDetail.setCode(CODE);
+        errorDetail.setType(TYPE.toString());
+        errorDetail.setDetails(details(exception));
 
         ErrorResponse errorResponse = new ErrorResponse();
-        errorResponse.setStatus(403);
-        errorResponse.setMessage("User not registered");
+        errorResponse.setStatus(STATUS);
+        errorResponse.setMessage(MESSAGE);
         errorResponse.setError(errorDetail);
         errorResponse.setPath(request.getRequestURI());
         errorResponse.setMethod(request.getMethod());
+        errorResponse.setFieldErrors(new ArrayList<>());
         errorResponse.setTimestamp(Instant.now());
 
         return errorResponse;
     }
+
+    public static String details(UserNotRegisteredException exception) {
+        return "User with external ID '" + exception.getExternalId() + "' is not registered. Please complete signup.";
+    }
 }
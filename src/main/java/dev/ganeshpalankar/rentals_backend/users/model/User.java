@@ -1,41 +1,26 @@
 package dev.ganeshpalankar.rentals_backend.users.model;
 
+import dev.ganeshpalankar.rentals_backend.common.persistence.VersionedEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.time.Instant;
-
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Backs keyset pagination on (created_at, id); external_id is covered by its unique constraint
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-public class User {
+public class User extends VersionedEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "external_id", nullable = false, unique = true)
     private String externalId;
-
-    @Column(name = "created_at", nullable = false)
-    private Instant createdAt;
-
-    @Column(name = "updated_at", nullable = false)
-    private Instant updatedAt;
-
-    @PrePersist
-    protected void onCreate() {
-        createdAt = Instant.now();
-        updatedAt = Instant.now();
-    }
-
-    @PreUpdate
-    protected void onUpdate() {
-        updatedAt = Instant.now();
-    }
 }
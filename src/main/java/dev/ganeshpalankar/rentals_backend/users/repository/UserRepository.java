@@ -1,11 +1,39 @@
 package dev.ganeshpalankar.rentals_backend.users.repository;
 
 import dev.ganeshpalankar.rentals_backend.users.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// Query methods run in read-only transactions so they can be served by a read replica;
+// inherited write methods keep SimpleJpaRepository's read-write transactions
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByExternalId(String externalId);
     boolean existsByExternalId(String externalId);
-}
 
+    // Version lookup for conditional GETs: reads one column instead of loading the entity
+    @Query("select u.updatedAt from User u where u.id = :id")
+    Optional<Instant> findUpdatedAtById(Long id);
+
+    // Keyset scrolling: pass a KeysetScrollPosition so the next page is a range seek, never an OFFSET
+    Window<User> findBy(ScrollPosition position, Sort sort, Limit limit);
+    Window<User> findByExternalIdStartingWith(String externalIdPrefix, ScrollPosition position, Sort sort, Limit limit);
+
+    // Server-side cursor for exports: rows arrive in fetch-size chunks and are never dirty-checked
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamByIdGreaterThanOrderByIdAsc(Long afterId);
+}
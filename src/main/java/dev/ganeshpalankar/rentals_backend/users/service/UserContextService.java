@@ -1,5 +1,6 @@
 package dev.ganeshpalankar.rentals_backend.users.service;
 
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
 import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
 import dev.ganeshpalankar.rentals_backend.users.model.User;
 import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
@@ -8,28 +9,32 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service for accessing information about the currently authenticated user.
  * Extracts user information from JWT token and resolves internal user ID.
+ * The resolved user is kept in the request scope, so each request performs at most one lookup.
  */
 @Service
 @RequiredArgsConstructor
 public class UserContextService {
 
     private final UserRepository userRepository;
+    private final UserIdCache userIdCache;
 
     /**
      * Get the internal user ID of the currently authenticated user.
+     * Served from {@link UserIdCache}, so most calls don't touch the database.
      *
      * @return the internal user ID
      * @throws RuntimeException if user is not authenticated or not found
      */
     public Long getCurrentUserId() {
-        String externalId = getCurrentUserExternalId();
-        User user = userRepository.findByExternalId(externalId)
-                .orElseThrow(() -> new UserNotRegisteredException(externalId));
-        return user.getId();
+        return resolveCurrentUser().getUserId();
     }
 
     /**
@@ -50,13 +55,47 @@ public class UserContextService {
 
     /**
      * Get the full User object of the currently authenticated user.
+     * The entity is loaded at most once per request.
      *
      * @return the User entity
      * @throws RuntimeException if user is not authenticated or not found
      */
     public User getCurrentUser() {
+        CurrentUser currentUser = resolveCurrentUser();
+        if (currentUser.getUser() == null) {
+            User user = userRepository.findById(currentUser.getUserId())
+                    .orElseThrow(() -> new UserNotRegisteredException(currentUser.getExternalId()));
+            currentUser.setUser(user);
+        }
+        return currentUser.getUser();
+    }
+
+    /**
+     * Get the request-scoped {@link CurrentUser}, resolving and storing it on first access.
+     * Outside of a web request the user is resolved on every call.
+     *
+     * @return the resolved current user
+     * @throws UserNotRegisteredException if the authenticated user has not signed up
+     */
+    public CurrentUser resolveCurrentUser() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CurrentUser.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof CurrentUser currentUser) {
+            return currentUser;
+        }
+
         String externalId = getCurrentUserExternalId();
-        return userRepository.findByExternalId(externalId)
+        AtomicReference<User> loadedUser = new AtomicReference<>();
+        Long userId = userIdCache.getUserId(externalId, loadedUser::set)
                 .orElseThrow(() -> new UserNotRegisteredException(externalId));
+
+        CurrentUser currentUser = new CurrentUser(externalId, userId);
+        currentUser.setUser(loadedUser.get());
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(CurrentUser.REQUEST_ATTRIBUTE, currentUser, RequestAttributes.SCOPE_REQUEST);
+        }
+        return currentUser;
     }
 }
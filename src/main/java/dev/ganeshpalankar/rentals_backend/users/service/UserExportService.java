@@ -0,0 +1,68 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.ganeshpalankar.rentals_backend.users.config.UserExportProperties;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every user as newline-delimited JSON, in ascending id order.
+ * Rows are read through a database cursor and detached as soon as they are written,
+ * so memory use stays flat however large the table is. An interrupted export can be
+ * resumed by passing the id of the last row received as {@code afterId}.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final UserExportProperties properties;
+
+    /**
+     * Stream users with an id greater than {@code afterId} to {@code output}, one JSON object per line.
+     * The output stream is flushed periodically but not closed.
+     *
+     * @param afterId the id to resume after, or null to export from the start
+     * @param output  the stream to write to
+     * @return the number of users written
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(Long afterId, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(User.class);
+        int flushInterval = properties.getFlushInterval();
+        long written = 0;
+
+        try (Stream<User> users = userRepository.streamByIdGreaterThanOrderByIdAsc(afterId != null ? afterId : 0L);
+             JsonGenerator generator = objectMapper.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Each row is terminated by '\n' below, so no separator between root values
+            generator.setRootValueSeparator(null);
+
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                writer.writeValue(generator, user);
+                generator.writeRaw('\n');
+                entityManager.detach(user);
+
+                if (++written % flushInterval == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,99 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.ganeshpalankar.rentals_backend.users.config.UserIdCacheProperties;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, TTL-based cache of externalId (JWT 'sub' claim) to internal user ID.
+ * Unregistered external IDs are cached as empty entries with a shorter TTL, so
+ * repeated requests from unregistered users don't hit the database either.
+ * Hit, miss and eviction counters are published as {@code cache.*} meters.
+ */
+@Component
+public class UserIdCache {
+
+    static final String CACHE_NAME = "users.id-by-external-id";
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<Long>> cache;
+
+    public UserIdCache(UserRepository userRepository,
+                       UserIdCacheProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new RegistrationAwareExpiry(
+                        properties.getRegisteredTtl().toNanos(),
+                        properties.getUnregisteredTtl().toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Resolve the internal user ID for an external ID, loading it from the database on a miss.
+     *
+     * @param externalId the external ID from the JWT 'sub' claim
+     * @return the internal user ID, or empty if the user is not registered
+     */
+    public Optional<Long> getUserId(String externalId) {
+        return getUserId(externalId, user -> { });
+    }
+
+    /**
+     * Resolve the internal user ID, handing the loaded entity to {@code onLoad} on a cache miss
+     * so callers that also need the full user don't have to query for it again.
+     *
+     * @param externalId the external ID from the JWT 'sub' claim
+     * @param onLoad     receives the user entity when it was loaded from the database
+     * @return the internal user ID, or empty if the user is not registered
+     */
+    public Optional<Long> getUserId(String externalId, Consumer<User> onLoad) {
+        return cache.get(externalId, id -> userRepository.findByExternalId(id)
+                .map(user -> {
+                    onLoad.accept(user);
+                    return user.getId();
+                }));
+    }
+
+    /**
+     * Record a freshly registered user so the next request doesn't see a stale negative entry.
+     */
+    public void put(String externalId, Long userId) {
+        cache.put(externalId, Optional.of(userId));
+    }
+
+    public void invalidate(String externalId) {
+        cache.invalidate(externalId);
+    }
+
+    private record RegistrationAwareExpiry(long registeredTtlNanos, long unregisteredTtlNanos)
+            implements Expiry<String, Optional<Long>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<Long> value, long currentTime) {
+            return value.isPresent() ? registeredTtlNanos : unregisteredTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<Long> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<Long> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
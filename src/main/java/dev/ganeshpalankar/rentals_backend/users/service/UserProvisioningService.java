@@ -0,0 +1,147 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import dev.ganeshpalankar.rentals_backend.common.outbox.Outbox;
+import dev.ganeshpalankar.rentals_backend.users.config.UserProvisioningProperties;
+import dev.ganeshpalankar.rentals_backend.users.dto.BulkProvisioningResult;
+import dev.ganeshpalankar.rentals_backend.users.event.UserSignedUp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates users in bulk from a stream of external IDs.
+ * The input is read line by line and processed in fixed-size chunks: each chunk is checked
+ * against existing users with one query and inserted with one JDBC batch, so memory use
+ * doesn't depend on the size of the import. Existing users are skipped. Each new user gets a
+ * {@link UserSignedUp} event in the outbox, committed with its chunk, just like a signup.
+ * <p>
+ * This bypasses JPA on purpose: {@code User} uses an IDENTITY generator, which prevents
+ * Hibernate from batching inserts.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT external_id FROM users WHERE external_id IN (:externalIds)";
+    private static final String INSERT_SQL =
+            "INSERT INTO users (external_id, created_at, updated_at) VALUES (?, ?, ?)";
+    private static final String SELECT_IDS_SQL =
+            "SELECT id, external_id FROM users WHERE external_id IN (:externalIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserIdCache userIdCache;
+    private final UserProvisioningProperties properties;
+    private final Outbox outbox;
+
+    /**
+     * Provision users for every external ID in the input, one ID per line. Blank lines are ignored.
+     *
+     * @param input the external IDs, one per line
+     * @return counts of created and skipped (already existing or repeated) users
+     */
+    public BulkProvisioningResult provision(Reader input) throws IOException {
+        BufferedReader reader = input instanceof BufferedReader bufferedReader
+                ? bufferedReader
+                : new BufferedReader(input);
+        int batchSize = properties.getBatchSize();
+
+        long created = 0;
+        long skipped = 0;
+        Set<String> chunk = new LinkedHashSet<>(batchSize * 2);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String externalId = line.trim();
+            if (externalId.isEmpty()) {
+                continue;
+            }
+            if (!chunk.add(externalId)) {
+                skipped++;
+                continue;
+            }
+            if (chunk.size() == batchSize) {
+                int inserted = provisionChunk(chunk);
+                created += inserted;
+                skipped += chunk.size() - inserted;
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            int inserted = provisionChunk(chunk);
+            created += inserted;
+            skipped += chunk.size() - inserted;
+        }
+
+        return new BulkProvisioningResult(created, skipped);
+    }
+
+    private int provisionChunk(Set<String> externalIds) {
+        List<String> inserted = null;
+        // Every conflict means another ID of the chunk now exists and is skipped by the next attempt,
+        // so there can't be more conflicts than IDs
+        for (int conflicts = 0; inserted == null; conflicts++) {
+            try {
+                inserted = transactionTemplate.execute(status -> insertMissing(externalIds));
+            } catch (DuplicateKeyException ex) {
+                // A concurrent signup took one of the IDs between our check and insert; the retry sees it
+                if (conflicts == externalIds.size()) {
+                    throw ex;
+                }
+            }
+        }
+
+        // Drop any negative cache entries so the new users are recognised immediately
+        inserted.forEach(userIdCache::invalidate);
+        return inserted.size();
+    }
+
+    private List<String> insertMissing(Set<String> externalIds) {
+        Set<String> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_EXISTING_SQL,
+                new MapSqlParameterSource("externalIds", externalIds),
+                String.class));
+
+        List<String> toInsert = new ArrayList<>(externalIds.size() - existing.size());
+        for (String externalId : externalIds) {
+            if (!existing.contains(externalId)) {
+                toInsert.add(externalId);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return toInsert;
+        }
+
+        OffsetDateTime now = OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, toInsert, toInsert.size(), (ps, externalId) -> {
+            ps.setString(1, externalId);
+            ps.setObject(2, now);
+            ps.setObject(3, now);
+        });
+
+        // Read back the generated ids, which the batch insert doesn't return
+        Instant signedUpAt = now.toInstant();
+        List<UserSignedUp> events = namedParameterJdbcTemplate.query(SELECT_IDS_SQL,
+                new MapSqlParameterSource("externalIds", toInsert),
+                (rs, row) -> new UserSignedUp(rs.getLong("id"), rs.getString("external_id"), signedUpAt));
+        outbox.appendAll(UserSignedUp.AGGREGATE_TYPE, UserSignedUp.EVENT_TYPE, events, UserSignedUp::userId);
+        return toInsert;
+    }
+}
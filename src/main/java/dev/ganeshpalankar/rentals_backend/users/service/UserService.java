@@ -1,9 +1,15 @@
 package dev.ganeshpalankar.rentals_backend.users.service;
 
+import dev.ganeshpalankar.rentals_backend.common.pagination.CursorPage;
 import dev.ganeshpalankar.rentals_backend.users.model.User;
 
+import java.time.Instant;
+
 public interface UserService {
     User signup(String externalId);
     User findByExternalId(String externalId);
+    User findById(Long id);
+    Instant getUpdatedAt(Long id);
     boolean existsByExternalId(String externalId);
+    CursorPage<User> listUsers(String externalIdPrefix, String cursor, Integer pageSize);
 }
\ No newline at end of file
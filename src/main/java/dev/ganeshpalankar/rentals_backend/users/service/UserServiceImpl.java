@@ -1,31 +1,88 @@
 package dev.ganeshpalankar.rentals_backend.users.service;
 
+import dev.ganeshpalankar.rentals_backend.common.datasource.ReadYourWritesTracker;
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.outbox.Outbox;
+import dev.ganeshpalankar.rentals_backend.common.pagination.CursorPage;
+import dev.ganeshpalankar.rentals_backend.common.pagination.KeysetCursor;
+import dev.ganeshpalankar.rentals_backend.users.config.UserListingProperties;
+import dev.ganeshpalankar.rentals_backend.users.event.UserSignedUp;
 import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsException;
 import dev.ganeshpalankar.rentals_backend.users.model.User;
 import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // Declared in V1__create_users.sql
+    private static final String EXTERNAL_ID_CONSTRAINT = "uk_users_external_id";
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdCache userIdCache;
+
+    @Autowired
+    private UserListingProperties userListingProperties;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private Outbox outbox;
+
     @Override
+    @Transactional
     public User signup(String externalId) {
         if (externalId == null || externalId.trim().isEmpty()) {
             throw new RuntimeException("External ID cannot be null or empty");
         }
 
-        if (userRepository.existsByExternalId(externalId)) {
-            throw new UserAlreadyExistsException(externalId);
-        }
-
         User user = new User();
         user.setExternalId(externalId);
 
-        return userRepository.save(user);
+        // Insert directly and let the unique constraint on external_id decide,
+        // so concurrent signups for the same user cannot race a separate existence check
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (!violatesExternalIdConstraint(ex)) {
+                throw ex;
+            }
+            throw new UserAlreadyExistsException(externalId);
+        }
+        // Committed with the user, and published later by the outbox relay
+        outbox.append(UserSignedUp.AGGREGATE_TYPE, savedUser.getId(), UserSignedUp.EVENT_TYPE,
+                new UserSignedUp(savedUser.getId(), externalId, savedUser.getCreatedAt()));
+
+        // Only once the user is committed: a cached id of a rolled-back user would pass the registration check
+        afterCommit(() -> {
+            userIdCache.put(externalId, savedUser.getId());
+            // Keep this user's reads on the primary until the replicas have the new row
+            readYourWritesTracker.recordWrite(externalId);
+        });
+        return savedUser;
     }
 
     @Override
@@ -34,8 +91,85 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new RuntimeException("User not found with external ID: " + externalId));
     }
 
+    @Override
+    public User findById(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(id, "User"));
+    }
+
+    @Override
+    public Instant getUpdatedAt(Long id) {
+        return userRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(id, "User"));
+    }
+
     @Override
     public boolean existsByExternalId(String externalId) {
         return userRepository.existsByExternalId(externalId);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<User> listUsers(String externalIdPrefix, String cursor, Integer pageSize) {
+        ScrollPosition position = StringUtils.hasText(cursor)
+                ? toScrollPosition(KeysetCursor.decode(cursor))
+                : ScrollPosition.keyset();
+        Limit limit = Limit.of(resolvePageSize(pageSize));
+
+        Window<User> window = StringUtils.hasText(externalIdPrefix)
+                ? userRepository.findByExternalIdStartingWith(externalIdPrefix, position, NEWEST_FIRST, limit)
+                : userRepository.findBy(position, NEWEST_FIRST, limit);
+
+        List<User> users = window.getContent();
+        String nextCursor = null;
+        if (window.hasNext() && !users.isEmpty()) {
+            User last = users.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(users, nextCursor, nextCursor != null);
+    }
+
+    /**
+     * Whether {@code ex} is a duplicate external id, rather than any other constraint the insert broke.
+     * The constraint name is checked instead of querying again, since PostgreSQL rejects any further
+     * statement in a transaction that hit a constraint violation.
+     */
+    private static boolean violatesExternalIdConstraint(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // H2 reports it schema-qualified, in upper case and with its backing index appended
+                String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(EXTERNAL_ID_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run {@code action} after the current transaction commits, or at once when there is none.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return userListingProperties.getDefaultPageSize();
+        }
+        return Math.min(requested, userListingProperties.getMaxPageSize());
+    }
+
+    private static ScrollPosition toScrollPosition(KeysetCursor cursor) {
+        return ScrollPosition.forward(Map.of("createdAt", cursor.createdAt(), "id", cursor.id()));
+    }
+}
@@ -0,0 +1,13 @@
+-- Users, keyed internally by id and externally by the identity provider's subject.
+-- Written to run unchanged on PostgreSQL and on H2 (including MODE=PostgreSQL).
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_id VARCHAR(255)                NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_users_external_id UNIQUE (external_id)
+);
+
+-- Backs keyset pagination on (created_at, id)
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
@@ -0,0 +1,3 @@
+-- Optimistic locking for users (see VersionedEntity). Existing rows start at version 0.
+
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,61 @@
+-- Properties, their units, and leases of units to tenants, all owned by a user (the landlord).
+-- owner_id is repeated on units and leases so ownership checks never need a join.
+
+CREATE TABLE properties (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_id     BIGINT                      NOT NULL,
+    name         VARCHAR(255)                NOT NULL,
+    address_line VARCHAR(255),
+    city         VARCHAR(100),
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version      BIGINT                      NOT NULL,
+    CONSTRAINT fk_properties_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_properties_owner_id ON properties (owner_id);
+
+CREATE TABLE units (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id BIGINT                      NOT NULL,
+    owner_id    BIGINT                      NOT NULL,
+    label       VARCHAR(100)                NOT NULL,
+    status      VARCHAR(16)                 NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version     BIGINT                      NOT NULL,
+    CONSTRAINT fk_units_property FOREIGN KEY (property_id) REFERENCES properties (id),
+    CONSTRAINT fk_units_owner FOREIGN KEY (owner_id) REFERENCES users (id),
+    CONSTRAINT uk_units_property_label UNIQUE (property_id, label)
+);
+
+CREATE TABLE leases (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    unit_id            BIGINT                      NOT NULL,
+    owner_id           BIGINT                      NOT NULL,
+    tenant_name        VARCHAR(255)                NOT NULL,
+    monthly_rent_cents BIGINT                      NOT NULL,
+    start_date         DATE                        NOT NULL,
+    end_date           DATE,
+    status             VARCHAR(16)                 NOT NULL,
+    created_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version            BIGINT                      NOT NULL,
+    CONSTRAINT fk_leases_unit FOREIGN KEY (unit_id) REFERENCES units (id),
+    CONSTRAINT fk_leases_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_leases_unit_id ON leases (unit_id);
+
+-- Read model of the landlord dashboard: one row per owner, kept up to date by every write that changes
+-- one of the counts, so the dashboard never aggregates over the tables above
+CREATE TABLE owner_portfolio_summaries (
+    owner_id               BIGINT                      NOT NULL PRIMARY KEY,
+    property_count         INTEGER                     NOT NULL,
+    unit_count             INTEGER                     NOT NULL,
+    occupied_unit_count    INTEGER                     NOT NULL,
+    active_lease_count     INTEGER                     NOT NULL,
+    outstanding_rent_cents BIGINT                      NOT NULL,
+    updated_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_owner_portfolio_summaries_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
@@ -0,0 +1,46 @@
+-- Rent ledger: an append-only list of charges and payments per lease.
+-- lease_balances holds each lease's running balance, updated with every entry, and
+-- lease_balance_snapshots records the balance after every Nth entry, so a balance as of any time is one
+-- snapshot plus at most N entries.
+
+CREATE TABLE rent_ledger_entries (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    lease_id     BIGINT                      NOT NULL,
+    owner_id     BIGINT                      NOT NULL,
+    -- Position of the entry in its lease's ledger, starting at 1 with no gaps
+    sequence     BIGINT                      NOT NULL,
+    entry_type   VARCHAR(16)                 NOT NULL,
+    -- Positive for charges, negative for payments
+    amount_cents BIGINT                      NOT NULL,
+    description  VARCHAR(255),
+    posted_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_rent_ledger_entries_lease FOREIGN KEY (lease_id) REFERENCES leases (id),
+    CONSTRAINT uk_rent_ledger_entries_lease_sequence UNIQUE (lease_id, sequence)
+);
+
+CREATE TABLE lease_balances (
+    lease_id       BIGINT                      NOT NULL PRIMARY KEY,
+    owner_id       BIGINT                      NOT NULL,
+    balance_cents  BIGINT                      NOT NULL,
+    last_sequence  BIGINT                      NOT NULL,
+    last_posted_at TIMESTAMP(6) WITH TIME ZONE,
+    updated_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_lease_balances_lease FOREIGN KEY (lease_id) REFERENCES leases (id)
+);
+
+CREATE TABLE lease_balance_snapshots (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    lease_id      BIGINT                      NOT NULL,
+    sequence      BIGINT                      NOT NULL,
+    balance_cents BIGINT                      NOT NULL,
+    posted_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_lease_balance_snapshots_lease FOREIGN KEY (lease_id) REFERENCES leases (id),
+    CONSTRAINT uk_lease_balance_snapshots_lease_sequence UNIQUE (lease_id, sequence)
+);
+
+-- Finds the latest snapshot before a point in time
+CREATE INDEX idx_lease_balance_snapshots_lease_posted_at ON lease_balance_snapshots (lease_id, posted_at);
+
+-- Leases started before the ledger existed start with an empty one
+INSERT INTO lease_balances (lease_id, owner_id, balance_cents, last_sequence, updated_at)
+SELECT id, owner_id, 0, 0, CURRENT_TIMESTAMP FROM leases;
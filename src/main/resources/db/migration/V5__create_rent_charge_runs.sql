@@ -0,0 +1,51 @@
+-- Monthly rent charges, posted in bulk by the rent charge engine.
+
+-- First day of the month a rent charge is for; null for all other entries. At most one charge per lease and
+-- month, which is what makes re-running a month safe
+ALTER TABLE rent_ledger_entries ADD COLUMN charge_period DATE;
+CREATE UNIQUE INDEX uk_rent_ledger_entries_lease_charge_period ON rent_ledger_entries (lease_id, charge_period);
+
+CREATE TABLE rent_charge_runs (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    period        DATE                        NOT NULL,
+    status        VARCHAR(16)                 NOT NULL,
+    -- Leases are split into chunks of chunk_size ids up to max_lease_id; both are fixed when the run starts
+    -- so a resumed run splits them the same way
+    chunk_size    INTEGER                     NOT NULL,
+    max_lease_id  BIGINT                      NOT NULL,
+    charged_count BIGINT                      NOT NULL,
+    skipped_count BIGINT                      NOT NULL,
+    failed_count  BIGINT                      NOT NULL,
+    completed_at  TIMESTAMP(6) WITH TIME ZONE,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version       BIGINT                      NOT NULL
+);
+
+CREATE INDEX idx_rent_charge_runs_period_status ON rent_charge_runs (period, status);
+
+-- Checkpoints: one row per finished chunk, written in the chunk's transaction
+CREATE TABLE rent_charge_chunks (
+    run_id         BIGINT                      NOT NULL,
+    -- The chunk covers lease ids in (after_lease_id, after_lease_id + chunk_size]
+    after_lease_id BIGINT                      NOT NULL,
+    charged        INTEGER                     NOT NULL,
+    skipped        INTEGER                     NOT NULL,
+    failed         INTEGER                     NOT NULL,
+    completed_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (run_id, after_lease_id),
+    CONSTRAINT fk_rent_charge_chunks_run FOREIGN KEY (run_id) REFERENCES rent_charge_runs (id)
+);
+
+CREATE TABLE rent_charge_failures (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    run_id      BIGINT                      NOT NULL,
+    lease_id    BIGINT                      NOT NULL,
+    error_code  VARCHAR(64)                 NOT NULL,
+    error_type  VARCHAR(32)                 NOT NULL,
+    details     VARCHAR(1000),
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_rent_charge_failures_run FOREIGN KEY (run_id) REFERENCES rent_charge_runs (id)
+);
+
+CREATE INDEX idx_rent_charge_failures_run_id ON rent_charge_failures (run_id, id);
@@ -0,0 +1,45 @@
+-- Maintenance requests for units, and the queue that dispatches them to contractors.
+
+CREATE TABLE maintenance_requests (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    unit_id       BIGINT                      NOT NULL,
+    owner_id      BIGINT                      NOT NULL,
+    title         VARCHAR(255)                NOT NULL,
+    description   VARCHAR(2000),
+    priority      VARCHAR(16)                 NOT NULL,
+    status        VARCHAR(16)                 NOT NULL,
+    sla_deadline  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    dispatched_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version       BIGINT                      NOT NULL,
+    CONSTRAINT fk_maintenance_requests_unit FOREIGN KEY (unit_id) REFERENCES units (id),
+    CONSTRAINT fk_maintenance_requests_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_maintenance_requests_unit_id ON maintenance_requests (unit_id);
+
+-- One job per request. Workers claim PENDING jobs whose visible_at has passed, earliest deadline first, and
+-- push visible_at forward by the visibility timeout; a job whose worker dies becomes claimable again then.
+-- attempts counts claims and doubles as the claim token: only the latest claimant can finish a job
+CREATE TABLE maintenance_dispatch_jobs (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    request_id   BIGINT                      NOT NULL,
+    -- Higher is more urgent; breaks ties between equal deadlines
+    priority     INTEGER                     NOT NULL,
+    sla_deadline TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status       VARCHAR(16)                 NOT NULL,
+    attempts     INTEGER                     NOT NULL,
+    visible_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    claimed_by   VARCHAR(64),
+    last_error   VARCHAR(1000),
+    completed_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_maintenance_dispatch_jobs_request FOREIGN KEY (request_id) REFERENCES maintenance_requests (id),
+    CONSTRAINT uk_maintenance_dispatch_jobs_request UNIQUE (request_id)
+);
+
+-- Serves the claim query in its ORDER BY, so claiming reads the head of the queue rather than sorting it
+CREATE INDEX idx_maintenance_dispatch_jobs_claim
+    ON maintenance_dispatch_jobs (status, sla_deadline, priority DESC, id);
@@ -0,0 +1,17 @@
+-- Transactional outbox: domain events written in the transaction of the change they describe, and relayed to
+-- the event sink afterwards. A row is deleted once the sink has accepted it, so the table only holds the
+-- backlog. Relays claim rows whose available_at has passed, oldest first, and push available_at forward by the
+-- lease timeout; an event whose relay dies is claimed again then. attempts counts claims and doubles as the
+-- claim token, as in maintenance_dispatch_jobs
+CREATE TABLE outbox_events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(64)                 NOT NULL,
+    aggregate_id   VARCHAR(64)                 NOT NULL,
+    event_type     VARCHAR(64)                 NOT NULL,
+    -- JSON
+    payload        TEXT                        NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    attempts       INTEGER                     NOT NULL,
+    available_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error     VARCHAR(1000)
+);
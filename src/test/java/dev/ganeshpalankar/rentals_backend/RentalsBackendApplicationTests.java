@@ -3,7 +3,7 @@ package dev.ganeshpalankar.rentals_backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
 class RentalsBackendApplicationTests {
 
 	@Test
@@ -0,0 +1,68 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ApplicationException;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throwing and catching {@link UserNotRegisteredException} with and without stack traces.
+ * {@code stackDepth} is the number of frames between the throw and the catch; a request rejected by
+ * RegisteredUserFilter under Tomcat and Spring Security is well over a hundred frames deep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationExceptionBenchmark {
+
+    @Param({"true", "false"})
+    public boolean stackTraces;
+
+    @Param({"10", "150"})
+    public int stackDepth;
+
+    private boolean initialSetting;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        initialSetting = ApplicationException.isStackTracesEnabled();
+        ApplicationException.setStackTracesEnabled(stackTraces);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ApplicationException.setStackTracesEnabled(initialSetting);
+    }
+
+    @Benchmark
+    public String throwAndCatch() {
+        try {
+            return descendAndThrow(stackDepth);
+        } catch (UserNotRegisteredException ex) {
+            return ex.getExternalId();
+        }
+    }
+
+    private static String descendAndThrow(int depth) {
+        if (depth == 0) {
+            throw new UserNotRegisteredException(BenchmarkFixtures.UNREGISTERED_EXTERNAL_ID);
+        }
+        return descendAndThrow(depth - 1);
+    }
+}
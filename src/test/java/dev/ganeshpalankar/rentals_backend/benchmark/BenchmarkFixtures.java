@@ -0,0 +1,130 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shared objects for the benchmarks, built without starting a Spring context.
+ */
+final class BenchmarkFixtures {
+
+    static final String REGISTERED_EXTERNAL_ID = "auth0|registered";
+    static final String UNREGISTERED_EXTERNAL_ID = "auth0|unregistered";
+
+    private BenchmarkFixtures() {}
+
+    static User user(Long id, String externalId) {
+        Instant now = Instant.now();
+        User user = new User(id, externalId);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        user.setVersion(0L);
+        return user;
+    }
+
+    /**
+     * An ObjectMapper configured the way Spring Boot configures the application one.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * A mock response whose output stream accepts byte arrays in one call, like a container's does.
+     * {@link MockHttpServletResponse}'s own stream copies one byte at a time, which would dominate
+     * any benchmark that writes to {@code getOutputStream()}.
+     */
+    static MockHttpServletResponse response() {
+        return new BulkWriteResponse();
+    }
+
+    private static final class BulkWriteResponse extends MockHttpServletResponse {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                body.write(bytes, offset, length);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public byte[] getContentAsByteArray() {
+            return body.toByteArray();
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            body.reset();
+        }
+    }
+
+    static Authentication jwtAuthentication(String subject) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject(subject)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        return new JwtAuthenticationToken(jwt, List.of());
+    }
+
+    /**
+     * A UserRepository stand-in answering the lookups the request path performs from an in-memory map.
+     */
+    static UserRepository stubUserRepository(Map<String, User> usersByExternalId) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByExternalId" -> Optional.ofNullable(usersByExternalId.get((String) args[0]));
+                    case "existsByExternalId" -> usersByExternalId.containsKey((String) args[0]);
+                    case "findById" -> usersByExternalId.values().stream()
+                            .filter(user -> user.getId().equals(args[0]))
+                            .findFirst();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,62 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.common.validation.EnumValidator;
+import dev.ganeshpalankar.rentals_backend.common.validation.ValidEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EnumValidator#isValid} for accepted and rejected values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumValidatorBenchmark {
+
+    enum SampleType { APARTMENT, HOUSE, CONDO, TOWNHOUSE, STUDIO, DUPLEX, VILLA, COMMERCIAL }
+
+    @ValidEnum(enumClass = SampleType.class)
+    private String sampleField;
+
+    @ValidEnum(enumClass = SampleType.class, ignoreCase = true)
+    private String caseInsensitiveField;
+
+    private final EnumValidator enumValidator = new EnumValidator();
+    private final EnumValidator caseInsensitiveValidator = new EnumValidator();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        enumValidator.initialize(EnumValidatorBenchmark.class.getDeclaredField("sampleField").getAnnotation(ValidEnum.class));
+        caseInsensitiveValidator.initialize(
+                EnumValidatorBenchmark.class.getDeclaredField("caseInsensitiveField").getAnnotation(ValidEnum.class));
+    }
+
+    @Benchmark
+    public boolean validValue() {
+        return enumValidator.isValid("DUPLEX", null);
+    }
+
+    @Benchmark
+    public boolean invalidValue() {
+        return enumValidator.isValid("CASTLE", null);
+    }
+
+    @Benchmark
+    public boolean caseInsensitiveValue() {
+        return caseInsensitiveValidator.isValid("duplex", null);
+    }
+}
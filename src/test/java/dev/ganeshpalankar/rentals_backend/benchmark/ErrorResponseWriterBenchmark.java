@@ -0,0 +1,74 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseWriter;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing the 403 sent to unregistered users: the previous approach (a new handler,
+ * a full {@link ErrorResponse} and a private ObjectMapper writing through a String), the shared
+ * {@link ErrorResponseWriter} with a full ErrorResponse, and the writer's pre-encoded template.
+ * The response is reused so only the cost of producing the body is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseWriterBenchmark {
+
+    private final ObjectMapper privateObjectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(BenchmarkFixtures.objectMapper());
+    private final UserNotRegisteredExceptionHandler handler = new UserNotRegisteredExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/42");
+    private final MockHttpServletResponse response = BenchmarkFixtures.response();
+    private final UserNotRegisteredException exception =
+            new UserNotRegisteredException(BenchmarkFixtures.UNREGISTERED_EXTERNAL_ID);
+
+    @Benchmark
+    public int previousFilterPath() throws Exception {
+        resetResponse();
+        ErrorResponse errorResponse = new UserNotRegisteredExceptionHandler().handle(exception, request);
+        response.setStatus(errorResponse.getStatus());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(privateObjectMapper.writeValueAsString(errorResponse));
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int writerWithErrorResponse() throws Exception {
+        resetResponse();
+        writer.write(response, handler.handle(exception, request));
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int writerWithTemplate() throws Exception {
+        resetResponse();
+        writer.write(response, request, UserNotRegisteredExceptionHandler.TEMPLATE,
+                UserNotRegisteredExceptionHandler.details(exception));
+        return response.getStatus();
+    }
+
+    private void resetResponse() {
+        response.reset();
+    }
+}
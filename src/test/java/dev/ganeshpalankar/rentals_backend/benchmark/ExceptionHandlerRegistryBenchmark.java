@@ -0,0 +1,63 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ApplicationException;
+import dev.ganeshpalankar.rentals_backend.common.exception.ExceptionHandlerRegistry;
+import dev.ganeshpalankar.rentals_backend.common.exception.ExceptionResponseHandler;
+import dev.ganeshpalankar.rentals_backend.common.exception.InvalidCursorExceptionHandler;
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFoundException;
+import dev.ganeshpalankar.rentals_backend.common.exception.ResourceNotFountExceptionHandler;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsExceptionHandler;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures handler lookup in {@link ExceptionHandlerRegistry} for an exactly registered type,
+ * a subclass resolved through its parent, and a type with no handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerRegistryBenchmark {
+
+    private final ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry(List.of(
+            new UserAlreadyExistsExceptionHandler(),
+            new UserNotRegisteredExceptionHandler(),
+            new ResourceNotFountExceptionHandler(),
+            new InvalidCursorExceptionHandler()));
+
+    @Benchmark
+    public ExceptionResponseHandler<Exception> exactType() {
+        return registry.findHandler(UserNotRegisteredException.class);
+    }
+
+    @Benchmark
+    public ExceptionResponseHandler<Exception> subclass() {
+        return registry.findHandler(LeaseNotFoundException.class);
+    }
+
+    @Benchmark
+    public ExceptionResponseHandler<Exception> unmapped() {
+        return registry.findHandler(ApplicationException.class);
+    }
+
+    static class LeaseNotFoundException extends ResourceNotFoundException {
+        LeaseNotFoundException() {
+            super(1L, "Lease");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorDetail;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of the response envelopes with a Boot-configured ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+    private final ApiResponse<User> apiResponse = new ApiResponse<>(
+            200, "User found", BenchmarkFixtures.user(1L, BenchmarkFixtures.REGISTERED_EXTERNAL_ID), Instant.now());
+    private final ErrorResponse errorResponse = new ErrorResponse(
+            403,
+            "User not registered",
+            new ErrorDetail("USER_NOT_REGISTERED", ErrorType.AUTHORIZATION_ERROR.toString(),
+                    "User with external ID 'auth0|unregistered' is not registered. Please complete signup."),
+            "/users/42",
+            "GET",
+            new ArrayList<>(),
+            Instant.now(),
+            null);
+
+    @Benchmark
+    public byte[] apiResponseOfUser() throws Exception {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
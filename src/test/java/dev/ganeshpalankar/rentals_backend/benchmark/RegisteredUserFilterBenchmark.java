@@ -0,0 +1,90 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseWriter;
+import dev.ganeshpalankar.rentals_backend.config.RegisteredUserFilter;
+import dev.ganeshpalankar.rentals_backend.config.RegistrationCheckProperties;
+import dev.ganeshpalankar.rentals_backend.users.config.UserIdCacheProperties;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import dev.ganeshpalankar.rentals_backend.users.service.UserContextService;
+import dev.ganeshpalankar.rentals_backend.users.service.UserIdCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RegisteredUserFilter} end to end with a stubbed repository:
+ * a skipped public path, a registered user and an unregistered (rejected) user.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisteredUserFilterBenchmark {
+
+    @Param({"skipped", "registered", "unregistered"})
+    public String scenario;
+
+    private RegisteredUserFilter filter;
+    private String uri;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserRepository userRepository = BenchmarkFixtures.stubUserRepository(Map.of(
+                BenchmarkFixtures.REGISTERED_EXTERNAL_ID,
+                BenchmarkFixtures.user(1L, BenchmarkFixtures.REGISTERED_EXTERNAL_ID)));
+        UserIdCache userIdCache = new UserIdCache(userRepository, new UserIdCacheProperties(), new SimpleMeterRegistry());
+        UserContextService userContextService = new UserContextService(userRepository, userIdCache);
+        filter = new RegisteredUserFilter(userContextService, new RegistrationCheckProperties(),
+                new ErrorResponseWriter(BenchmarkFixtures.objectMapper()),
+                new ErrorMetrics(new SimpleMeterRegistry()), new SimpleMeterRegistry());
+
+        uri = scenario.equals("skipped") ? "/public/h2-console" : "/users/42";
+        String subject = scenario.equals("unregistered")
+                ? BenchmarkFixtures.UNREGISTERED_EXTERNAL_ID
+                : BenchmarkFixtures.REGISTERED_EXTERNAL_ID;
+        SecurityContextHolder.getContext().setAuthentication(BenchmarkFixtures.jwtAuthentication(subject));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        blackhole.consume(response.getStatus());
+    }
+}
@@ -0,0 +1,57 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ErrorType;
+import dev.ganeshpalankar.rentals_backend.common.response.ApiResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.common.response.ResponseBuilder;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the response envelope builders used by every controller and error handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseBuilderBenchmark {
+
+    private final User user = BenchmarkFixtures.user(1L, BenchmarkFixtures.REGISTERED_EXTERNAL_ID);
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<User>> responseBuilder() {
+        return ResponseBuilder.<User>create()
+                .status(HttpStatus.OK)
+                .message("User found")
+                .data(user)
+                .build();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> errorResponseBuilder() {
+        return ErrorResponseBuilder.create()
+                .status(HttpStatus.BAD_REQUEST)
+                .message("User registration failed")
+                .errorCode("USER_ALREADY_EXISTS")
+                .errorType(ErrorType.BUSINESS_LOGIC_ERROR.toString())
+                .errorDetails("User with external ID 'auth0|registered' already exists")
+                .path("/users/signup")
+                .method("POST")
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.config.SkipPathMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled {@link SkipPathMatcher} with the previous
+ * {@code AntPathMatcher}-per-request implementation of the registration skip check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkipPathMatcherBenchmark {
+
+    private static final List<String> PATTERNS = List.of("/public/**", "/users/signup");
+
+    @Param({"/users/42", "/users/signup", "/public/h2-console/login.do"})
+    public String uri;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final SkipPathMatcher skipPathMatcher = new SkipPathMatcher(PATTERNS);
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        return PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+    }
+
+    @Benchmark
+    public boolean skipPathMatcher() {
+        return skipPathMatcher.matches(uri);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.ganeshpalankar.rentals_backend.benchmark;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.ValidationExceptionHandler;
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.validation.ValidationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validation error grouping through the public handler, which calls {@code groupFieldErrors}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    /**
+     * Number of rejected fields in the request body.
+     */
+    @Param({"10", "1000"})
+    public int fieldErrorCount;
+
+    private final ValidationExceptionHandler handler = new ValidationExceptionHandler(
+            new ValidationProperties(), new ErrorMetrics(new SimpleMeterRegistry()));
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/bulk");
+    private MethodArgumentNotValidException exception;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "request");
+        for (int i = 0; i < fieldErrorCount; i++) {
+            String field = "rows[" + (i / 2) + "].name";
+            bindingResult.addError(new FieldError("request", field, "value-" + i, false, null, null,
+                    i % 2 == 0 ? "must not be blank" : "size must be between 1 and 64"));
+        }
+        MethodParameter parameter = new MethodParameter(
+                ValidationBenchmark.class.getDeclaredMethod("handle", Object.class), 0);
+        exception = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> groupFieldErrors() {
+        return handler.handleValidationException(exception, request);
+    }
+
+    @SuppressWarnings("unused")
+    private void handle(Object body) {
+    }
+}
@@ -0,0 +1,103 @@
+package dev.ganeshpalankar.rentals_backend.common.datasource;
+
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application against two in-memory H2 databases, a primary and a replica that nothing replicates to,
+ * so which one served a read shows in whether it sees a row.
+ */
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "rentals.datasource.read-replicas.enabled=true",
+        "rentals.datasource.read-replicas.instances[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "rentals.datasource.read-replicas.read-your-writes-window=1m"
+})
+@DisplayName("Read Replica Routing Integration Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void createReplica() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        replica = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-only repository calls should be served by the replica")
+    void readOnlyQueries_ShouldUseReplica() {
+        // Given
+        replica.update("INSERT INTO users (external_id, created_at, updated_at) VALUES (?, ?, ?)",
+                "routing|replica-only", Timestamp.from(Instant.now()), Timestamp.from(Instant.now()));
+        userService.signup("routing|primary-only");
+
+        // Then
+        assertThat(userService.existsByExternalId("routing|replica-only")).isTrue();
+        assertThat(userService.existsByExternalId("routing|primary-only")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Read-write transactions should use the primary")
+    void readWriteTransactions_ShouldUsePrimary() {
+        // Given
+        userService.signup("routing|written");
+
+        // When
+        Long count = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE external_id = ?", Long.class, "routing|written"));
+
+        // Then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A user's reads should go to the primary for a while after they sign up")
+    void readsAfterSignup_ShouldUsePrimaryForTheSameUser() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("routing|new-user", null));
+        userService.signup("routing|new-user");
+
+        // Then
+        assertThat(userService.existsByExternalId("routing|new-user")).isTrue();
+
+        // Other users still read from the replica
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("routing|other", null));
+        assertThat(userService.existsByExternalId("routing|new-user")).isFalse();
+    }
+}
@@ -0,0 +1,119 @@
+package dev.ganeshpalankar.rentals_backend.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final DriverManagerDataSource primary = database("replica-test-primary");
+    private final SwitchableDataSource replica = new SwitchableDataSource(database("replica-test-replica"));
+    private final AtomicBoolean pinned = new AtomicBoolean();
+
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primary, List.of(replica), pinned::get, Duration.ofHours(1), Duration.ofSeconds(1));
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("getConnection() - Should use the replica while it is healthy")
+    void getConnection_WhenReplicaHealthy_ShouldUseReplica() throws SQLException {
+        assertThat(databaseOf(routing)).isEqualTo("REPLICA-TEST-REPLICA");
+    }
+
+    @Test
+    @DisplayName("getConnection() - Should use the primary while reads are pinned to it")
+    void getConnection_WhenPinned_ShouldUsePrimary() throws SQLException {
+        pinned.set(true);
+
+        assertThat(databaseOf(routing)).isEqualTo("REPLICA-TEST-PRIMARY");
+    }
+
+    @Test
+    @DisplayName("getConnection() - Should fall back to the primary and drop a failing replica until it passes a check")
+    void getConnection_WhenReplicaFails_ShouldFallBackUntilHealthCheckPasses() throws SQLException {
+        // Given
+        replica.up.set(false);
+
+        // When / Then
+        assertThat(databaseOf(routing)).isEqualTo("REPLICA-TEST-PRIMARY");
+        assertThat(routing.isHealthy(0)).isFalse();
+
+        // Still down: the health check keeps it out of rotation
+        routing.checkHealth();
+        assertThat(routing.isHealthy(0)).isFalse();
+
+        // Back up: the next health check puts it back
+        replica.up.set(true);
+        routing.checkHealth();
+        assertThat(routing.isHealthy(0)).isTrue();
+        assertThat(databaseOf(routing)).isEqualTo("REPLICA-TEST-REPLICA");
+    }
+
+    @Test
+    @DisplayName("getConnection(username, password) - Should route like getConnection() with the given credentials")
+    void getConnectionWithCredentials_ShouldRouteLikeGetConnection() throws SQLException {
+        try (Connection connection = routing.getConnection("sa", "")) {
+            assertThat(connection.getCatalog()).isEqualTo("REPLICA-TEST-REPLICA");
+        }
+
+        pinned.set(true);
+        try (Connection connection = routing.getConnection("sa", "")) {
+            assertThat(connection.getCatalog()).isEqualTo("REPLICA-TEST-PRIMARY");
+        }
+    }
+
+    private static DriverManagerDataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static String databaseOf(ReplicaRoutingDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getCatalog();
+        }
+    }
+
+    /**
+     * A replica that can be taken down and brought back.
+     */
+    private static final class SwitchableDataSource extends AbstractDataSource {
+
+        private final DriverManagerDataSource target;
+        private final AtomicBoolean up = new AtomicBoolean(true);
+
+        SwitchableDataSource(DriverManagerDataSource target) {
+            this.target = target;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!up.get()) {
+                throw new SQLTransientConnectionException("replica is down");
+            }
+            return target.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            if (!up.get()) {
+                throw new SQLTransientConnectionException("replica is down");
+            }
+            return target.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApplicationException Unit Tests")
+class ApplicationExceptionTest {
+
+    private final boolean initialSetting = ApplicationException.isStackTracesEnabled();
+
+    @AfterEach
+    void tearDown() {
+        ApplicationException.setStackTracesEnabled(initialSetting);
+    }
+
+    @Test
+    @DisplayName("ApplicationException() - Should not capture a stack trace by default")
+    void constructor_WithStackTracesDisabled_ShouldBeStackless() {
+        // Given
+        ApplicationException.setStackTracesEnabled(false);
+
+        // When
+        UserNotRegisteredException exception = new UserNotRegisteredException("auth0|123");
+
+        // Then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getExternalId()).isEqualTo("auth0|123");
+    }
+
+    @Test
+    @DisplayName("ApplicationException() - Should capture a stack trace when enabled")
+    void constructor_WithStackTracesEnabled_ShouldCaptureStackTrace() {
+        // Given
+        ApplicationException.setStackTracesEnabled(true);
+
+        // When
+        UserNotRegisteredException exception = new UserNotRegisteredException("auth0|123");
+
+        // Then
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(exception.getStackTrace()[0].getMethodName())
+                .isEqualTo("constructor_WithStackTracesEnabled_ShouldCaptureStackTrace");
+    }
+}
@@ -0,0 +1,92 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredExceptionHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExceptionHandlerRegistry Unit Tests")
+class ExceptionHandlerRegistryTest {
+
+    private final ResourceNotFountExceptionHandler resourceNotFoundHandler = new ResourceNotFountExceptionHandler();
+    private final UserNotRegisteredExceptionHandler userNotRegisteredHandler = new UserNotRegisteredExceptionHandler();
+    private final ExceptionHandlerRegistry registry =
+            new ExceptionHandlerRegistry(List.of(resourceNotFoundHandler, userNotRegisteredHandler));
+
+    @Test
+    @DisplayName("findHandler() - Should return the handler registered for the exact type")
+    void findHandler_WithRegisteredType_ShouldReturnHandler() {
+        assertThat(registry.findHandler(UserNotRegisteredException.class)).isSameAs(userNotRegisteredHandler);
+        assertThat(registry.findHandler(ResourceNotFoundException.class)).isSameAs(resourceNotFoundHandler);
+    }
+
+    @Test
+    @DisplayName("findHandler() - Should fall back to the closest registered superclass")
+    void findHandler_WithSubclass_ShouldReturnParentHandler() {
+        assertThat(registry.findHandler(PropertyNotFoundException.class)).isSameAs(resourceNotFoundHandler);
+        assertThat(registry.findHandler(ArchivedPropertyNotFoundException.class)).isSameAs(resourceNotFoundHandler);
+    }
+
+    @Test
+    @DisplayName("findHandler() - Should prefer a handler for the subclass over the parent's")
+    void findHandler_WithSubclassHandler_ShouldPreferMostSpecific() {
+        // Given
+        PropertyNotFoundExceptionHandler propertyHandler = new PropertyNotFoundExceptionHandler();
+        ExceptionHandlerRegistry registry = new ExceptionHandlerRegistry(List.of(resourceNotFoundHandler, propertyHandler));
+
+        // When & Then
+        assertThat(registry.findHandler(ArchivedPropertyNotFoundException.class)).isSameAs(propertyHandler);
+        assertThat(registry.findHandler(ResourceNotFoundException.class)).isSameAs(resourceNotFoundHandler);
+    }
+
+    @Test
+    @DisplayName("findHandler() - Should return null for unmapped exceptions")
+    void findHandler_WithUnmappedType_ShouldReturnNull() {
+        assertThat(registry.findHandler(ApplicationException.class)).isNull();
+        assertThat(registry.findHandler(IllegalStateException.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("ExceptionHandlerRegistry() - Should reject two handlers for the same type")
+    void constructor_WithDuplicateHandlers_ShouldThrow() {
+        assertThatThrownBy(() -> new ExceptionHandlerRegistry(
+                List.of(resourceNotFoundHandler, new ResourceNotFountExceptionHandler())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ResourceNotFoundException.class.getName());
+    }
+
+    @Test
+    @DisplayName("ExceptionHandlerRegistry() - Should reject handlers whose exception type cannot be resolved")
+    void constructor_WithLambdaHandler_ShouldThrow() {
+        ExceptionResponseHandler<ResourceNotFoundException> lambda = (exception, request) -> new ErrorResponse();
+
+        assertThatThrownBy(() -> new ExceptionHandlerRegistry(List.of(lambda)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    static class PropertyNotFoundException extends ResourceNotFoundException {
+        PropertyNotFoundException(Long id) {
+            super(id, "Property");
+        }
+    }
+
+    static class ArchivedPropertyNotFoundException extends PropertyNotFoundException {
+        ArchivedPropertyNotFoundException(Long id) {
+            super(id);
+        }
+    }
+
+    static class PropertyNotFoundExceptionHandler implements ExceptionResponseHandler<PropertyNotFoundException> {
+        @Override
+        public ErrorResponse handle(PropertyNotFoundException exception, HttpServletRequest request) {
+            return new ErrorResponse();
+        }
+    }
+}
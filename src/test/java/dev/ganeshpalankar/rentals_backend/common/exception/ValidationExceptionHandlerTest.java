@@ -0,0 +1,142 @@
+package dev.ganeshpalankar.rentals_backend.common.exception;
+
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponse;
+import dev.ganeshpalankar.rentals_backend.common.response.FieldError;
+import dev.ganeshpalankar.rentals_backend.common.validation.ValidationConfig;
+import dev.ganeshpalankar.rentals_backend.common.validation.ValidationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ValidationExceptionHandler Unit Tests")
+class ValidationExceptionHandlerTest {
+
+    private ValidationProperties properties;
+    private ValidationExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private SimpleMeterRegistry meterRegistry;
+
+    record Listing(@NotBlank @Size(min = 3) String title, @NotBlank String city) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new ValidationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new ValidationExceptionHandler(properties, new ErrorMetrics(meterRegistry));
+        request = new MockHttpServletRequest("POST", "/listings/bulk");
+    }
+
+    @Test
+    @DisplayName("handleValidationException() - Should list every field when under the cap")
+    void handleValidationException_UnderCap_ShouldListAllFields() throws Exception {
+        // Given
+        BeanPropertyBindingResult bindingResult = bindingResult(3);
+        bindingResult.rejectValue("items", "Size", "second message for field0");
+
+        // When
+        ErrorResponse response = handler.handleValidationException(exception(bindingResult), request).getBody();
+
+        // Then
+        assertThat(response.getFieldErrorsTruncated()).isNull();
+        assertThat(response.getFieldErrors()).extracting(FieldError::getField)
+                .containsExactly("items", "name", "description");
+        assertThat(response.getFieldErrors().get(0).getMessages()).hasSize(2);
+        assertThat(response.getError().getDetails()).isEqualTo("3 validation error(s) occurred");
+    }
+
+    @Test
+    @DisplayName("handleValidationException() - Should stop at maxFieldErrors and mark the response truncated")
+    void handleValidationException_OverCap_ShouldTruncate() throws Exception {
+        // Given
+        properties.setMaxFieldErrors(2);
+        BeanPropertyBindingResult bindingResult = bindingResult(3);
+
+        // When
+        ErrorResponse response = handler.handleValidationException(exception(bindingResult), request).getBody();
+
+        // Then
+        assertThat(response.getFieldErrorsTruncated()).isTrue();
+        assertThat(response.getFieldErrors()).extracting(FieldError::getField)
+                .containsExactly("items", "name");
+        assertThat(response.getError().getDetails())
+                .isEqualTo("3 validation error(s) occurred; only the first 2 field(s) are listed");
+        assertThat(meterRegistry.counter("rentals.errors", "type", "VALIDATION_ERROR", "code", "VALIDATION_FAILED")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("handleValidationException() - Should shorten long text and summarize collections")
+    void handleValidationException_WithLargeRejectedValues_ShouldTruncateThem() throws Exception {
+        // Given
+        properties.setMaxRejectedValueLength(5);
+        BeanPropertyBindingResult bindingResult = bindingResult(3);
+
+        // When
+        ErrorResponse response = handler.handleValidationException(exception(bindingResult), request).getBody();
+
+        // Then
+        assertThat(response.getFieldErrors()).extracting(FieldError::getRejectedValue)
+                .containsExactly("[3 element(s)]", "abcde...", "tiny");
+    }
+
+    @Test
+    @DisplayName("failFastValidationCustomizer - Should stop at the first violation when failFast is enabled")
+    void failFastValidationCustomizer_WhenEnabled_ShouldReportOneViolation() {
+        // Given
+        properties.setFailFast(true);
+        HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class).configure();
+        new ValidationConfig().failFastValidationCustomizer(properties).customize(configuration);
+
+        // When
+        try (ValidatorFactory factory = configuration.buildValidatorFactory()) {
+            Validator validator = factory.getValidator();
+
+            // Then
+            assertThat(validator.validate(new Listing("", ""))).hasSize(1);
+        }
+    }
+
+    /**
+     * A binding result with errors on {@code items}, {@code name} and {@code description}, in that order.
+     */
+    private static BeanPropertyBindingResult bindingResult(int fields) {
+        BulkRequest target = new BulkRequest(List.of("a", "b", "c"), "abcdefghij", "tiny");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, "bulkRequest");
+        List<String> names = List.of("items", "name", "description");
+        for (int i = 0; i < fields; i++) {
+            bindingResult.rejectValue(names.get(i), "Invalid", "invalid " + names.get(i));
+        }
+        return bindingResult;
+    }
+
+    private static MethodArgumentNotValidException exception(BeanPropertyBindingResult bindingResult) throws Exception {
+        MethodParameter parameter = new MethodParameter(
+                ValidationExceptionHandlerTest.class.getDeclaredMethod("submit", BulkRequest.class), 0);
+        return new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @SuppressWarnings("unused")
+    private void submit(BulkRequest request) {
+    }
+
+    public record BulkRequest(List<String> items, String name, String description) {
+    }
+}
@@ -0,0 +1,67 @@
+package dev.ganeshpalankar.rentals_backend.common.metrics;
+
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@DisplayName("Metrics Integration Tests")
+class MetricsIntegrationTest {
+
+    private static final String READER = "metrics|reader";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        if (!userService.existsByExternalId(READER)) {
+            userService.signup(READER);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Should expose the hot-path meters as histograms")
+    void prometheus_ShouldExposeHotPathMeters() throws Exception {
+        // Given
+        mockMvc.perform(get("/users").with(reader())).andExpect(status().isOk());
+        mockMvc.perform(get("/users").param("cursor", "not-a-cursor").with(reader()))
+                .andExpect(status().isBadRequest());
+
+        // When
+        String body = mockMvc.perform(get("/actuator/prometheus").with(reader()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(body)
+                .contains("rentals_errors_total{code=\"INVALID_CURSOR\",type=\"VALIDATION_ERROR\"}")
+                .contains("rentals_registration_check_seconds_bucket{phase=\"lookup\",le=\"0.001\"}")
+                .contains("rentals_registration_check_seconds_bucket{phase=\"skip_check\",le=\"+Inf\"} ")
+                .contains("rentals_http_response_size_bytes_bucket{uri=\"/users\",le=\"+Inf\"} 2")
+                .containsPattern("spring_data_repository_invocations_seconds_bucket\\{.*method=\"findBy\".*le=");
+    }
+
+    private static RequestPostProcessor reader() {
+        return jwt().jwt(jwt -> jwt.subject(READER))
+                .authorities(new SimpleGrantedAuthority("SCOPE_users:read"));
+    }
+}
@@ -0,0 +1,49 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileOutboxSink Unit Tests")
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("publish() - Should append one JSON line per event with the payload embedded as JSON")
+    void publish_ShouldAppendJsonLines() throws Exception {
+        // Given
+        OutboxProperties properties = new OutboxProperties();
+        properties.setFilePath(directory.resolve("events").resolve("outbox.jsonl"));
+        FileOutboxSink sink = new FileOutboxSink(properties, objectMapper);
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        // When
+        sink.publish(List.of(new OutboxEvent(1, "user", "7", "user.signed-up", "{\"userId\":7}", createdAt, 1)));
+        sink.publish(List.of(new OutboxEvent(2, "lease", "3", "ledger.payment-posted", "{\"amountCents\":100}",
+                createdAt, 2)));
+
+        // Then
+        List<String> lines = Files.readAllLines(properties.getFilePath());
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("eventType").asText()).isEqualTo("user.signed-up");
+        assertThat(first.get("payload").get("userId").asLong()).isEqualTo(7);
+        assertThat(first.has("attempt")).isFalse();
+        assertThat(objectMapper.readTree(lines.get(1)).get("payload").get("amountCents").asLong()).isEqualTo(100);
+    }
+}
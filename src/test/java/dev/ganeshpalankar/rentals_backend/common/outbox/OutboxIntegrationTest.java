@@ -0,0 +1,222 @@
+package dev.ganeshpalankar.rentals_backend.common.outbox;
+
+import dev.ganeshpalankar.rentals_backend.users.event.UserSignedUp;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsException;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserIdCache;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "rentals.outbox.relay-enabled=false",
+        "rentals.outbox.batch-size=10",
+        "rentals.outbox.initial-backoff=1m"
+})
+@DisplayName("Outbox Integration Tests")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserIdCache userIdCache;
+
+    @MockitoSpyBean
+    private Outbox outbox;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private OutboxSink sink;
+
+    @BeforeEach
+    void setUp() {
+        // Each test starts from an empty outbox
+        jdbcTemplate.update("DELETE FROM outbox_events");
+    }
+
+    @Test
+    @DisplayName("signup() - Should append one event with the new user, and none for a duplicate signup")
+    void signup_ShouldAppendEventWithTheUser() {
+        // Given
+        String externalId = "outbox|" + UUID.randomUUID();
+
+        // When
+        User user = userService.signup(externalId);
+        assertThatThrownBy(() -> userService.signup(externalId)).isInstanceOf(UserAlreadyExistsException.class);
+
+        // Then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT aggregate_type, aggregate_id, event_type, attempts FROM outbox_events");
+        assertThat(rows).hasSize(1);
+        assertThat(rows.getFirst())
+                .containsEntry("aggregate_type", UserSignedUp.AGGREGATE_TYPE)
+                .containsEntry("aggregate_id", String.valueOf(user.getId()))
+                .containsEntry("event_type", UserSignedUp.EVENT_TYPE)
+                .containsEntry("attempts", 0);
+        assertThat(jdbcTemplate.queryForObject("SELECT payload FROM outbox_events", String.class))
+                .contains("\"externalId\":\"" + externalId + "\"");
+    }
+
+    @Test
+    @DisplayName("signup() - Should leave no trace of the user when appending its event fails")
+    void signup_WhenAppendFails_ShouldNotCacheTheUser() {
+        // Given
+        String externalId = "outbox-failure|" + UUID.randomUUID();
+        // Stubbed on the spy behind the transactional proxy, which would otherwise demand a transaction
+        Outbox spy = AopTestUtils.getUltimateTargetObject(outbox);
+        doThrow(new IllegalStateException("outbox unavailable")).when(spy).append(
+                eq(UserSignedUp.AGGREGATE_TYPE), any(), eq(UserSignedUp.EVENT_TYPE),
+                argThat(payload -> payload instanceof UserSignedUp event && event.externalId().equals(externalId)));
+
+        // When
+        assertThatThrownBy(() -> userService.signup(externalId)).hasMessage("outbox unavailable");
+
+        // Then
+        assertThat(userService.existsByExternalId(externalId)).isFalse();
+        assertThat(userIdCache.getUserId(externalId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("signup() - Should only cache the user once the caller's transaction commits")
+    void signup_InRolledBackTransaction_ShouldNotCacheTheUser() {
+        // Given
+        String externalId = "outbox-rollback|" + UUID.randomUUID();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.signup(externalId);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(userService.existsByExternalId(externalId)).isFalse();
+        assertThat(userIdCache.getUserId(externalId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("append() - Should require a transaction and roll back with it")
+    void append_ShouldBelongToTheCallersTransaction() {
+        // When / Then
+        assertThatThrownBy(() -> outbox.append("test", 1L, "test.created", Map.of()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append("test", 1L, "test.created", Map.of());
+            status.setRollbackOnly();
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("relayBatch() - Should publish events oldest first in one batch and remove them")
+    @SuppressWarnings("unchecked")
+    void relayBatch_ShouldPublishAndRemoveEvents() {
+        // Given
+        appendEvents("a", "b", "c");
+        ArgumentCaptor<List<OutboxEvent>> published = ArgumentCaptor.forClass(List.class);
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(3);
+        verify(sink).publish(published.capture());
+        assertThat(published.getValue()).extracting(OutboxEvent::aggregateId).containsExactly("a", "b", "c");
+        assertThat(published.getValue()).extracting(OutboxEvent::payload)
+                .containsExactly("{\"name\":\"a\"}", "{\"name\":\"b\"}", "{\"name\":\"c\"}");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).isZero();
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("relayBatch() - Should hold back only the event the sink rejects, and deliver it on a later attempt")
+    void relayBatch_WhenSinkRejectsAnEvent_ShouldRetryThatEventAlone() {
+        // Given
+        appendEvents("a", "bad", "c");
+        doThrow(new IllegalStateException("broker rejected event"))
+                .when(sink).publish(argThat(events -> events != null
+                        && events.stream().anyMatch(event -> event.aggregateId().equals("bad"))));
+
+        // When
+        relay.relayBatch();
+
+        // Then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT id, aggregate_id, attempts, available_at, last_error FROM outbox_events");
+        assertThat(row).containsEntry("aggregate_id", "bad").containsEntry("attempts", 1);
+        assertThat((String) row.get("last_error")).contains("broker rejected event");
+        assertThat(((OffsetDateTime) row.get("available_at")).toInstant()).isAfter(Instant.now());
+        assertThat(relay.relayBatch()).isZero();
+
+        // When the backoff has passed and the sink accepts it
+        reset(sink);
+        jdbcTemplate.update("UPDATE outbox_events SET available_at = CURRENT_TIMESTAMP");
+        relay.relayBatch();
+
+        // Then
+        verify(sink, times(1)).publish(argThat(events -> events.size() == 1
+                && events.getFirst().id() == (Long) row.get("id") && events.getFirst().attempt() == 2));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("acknowledge() - Should only let the latest claim remove an event after its lease timed out")
+    void acknowledge_AfterLeaseExpired_ShouldBeLeftToTheNewClaim() {
+        // Given
+        appendEvents("a");
+        OutboxEvent first = outbox.claim(10).getFirst();
+        assertThat(outbox.claim(10)).isEmpty();
+        jdbcTemplate.update("UPDATE outbox_events SET available_at = CURRENT_TIMESTAMP");
+        OutboxEvent second = outbox.claim(10).getFirst();
+
+        // When / Then
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(second.attempt()).isEqualTo(2);
+        assertThat(outbox.acknowledge(List.of(first))).isZero();
+        assertThat(outbox.acknowledge(List.of(second))).isEqualTo(1);
+    }
+
+    private void appendEvents(String... names) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String name : names) {
+                outbox.append("test", name, "test.created", Map.of("name", name));
+            }
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package dev.ganeshpalankar.rentals_backend.common.persistence;
+
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "rentals.persistence.optimistic-lock.initial-backoff=0ms"
+})
+@DisplayName("OptimisticLockRetry Integration Tests")
+class OptimisticLockRetryIntegrationTest {
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.signup("versioned|" + UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("save() - Should reject an update made from a stale copy")
+    void save_FromStaleCopy_ShouldFail() {
+        // Given
+        User first = userRepository.findById(user.getId()).orElseThrow();
+        User stale = userRepository.findById(user.getId()).orElseThrow();
+        first.setExternalId(first.getExternalId() + "|first");
+        userRepository.save(first);
+
+        // When / Then
+        stale.setExternalId(stale.getExternalId() + "|stale");
+        assertThatThrownBy(() -> userRepository.save(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getVersion())
+                .isEqualTo(user.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("execute() - Should re-run the work in a new transaction after a conflict")
+    void execute_AfterConflict_ShouldRetryAndSucceed() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        double retriedBefore = conflicts("retried");
+
+        // When
+        User updated = optimisticLockRetry.execute(() -> {
+            User current = userRepository.findById(user.getId()).orElseThrow();
+            if (attempts.incrementAndGet() == 1) {
+                updateConcurrently();
+            }
+            current.setExternalId(user.getExternalId() + "|renamed");
+            return userRepository.saveAndFlush(current);
+        });
+
+        // Then
+        assertThat(attempts).hasValue(2);
+        assertThat(updated.getExternalId()).endsWith("|renamed");
+        assertThat(updated.getVersion()).isEqualTo(user.getVersion() + 2);
+        assertThat(conflicts("retried")).isEqualTo(retriedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("execute() - Should rethrow the conflict once every attempt has failed")
+    void execute_WhenEveryAttemptConflicts_ShouldGiveUp() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        double exhaustedBefore = conflicts("exhausted");
+
+        // When / Then
+        assertThatThrownBy(() -> optimisticLockRetry.execute(() -> {
+            attempts.incrementAndGet();
+            User current = userRepository.findById(user.getId()).orElseThrow();
+            updateConcurrently();
+            current.setExternalId(user.getExternalId() + "|attempt-" + attempts.get());
+            userRepository.saveAndFlush(current);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(3);
+        assertThat(conflicts("exhausted")).isEqualTo(exhaustedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("execute() - Should refuse to run inside an existing transaction")
+    void execute_InsideTransaction_ShouldFail() {
+        // When / Then
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> optimisticLockRetry.execute(() -> userRepository.findById(user.getId()))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Commit an update of the user from another transaction, as a concurrent request would.
+     */
+    private void updateConcurrently() {
+        TransactionTemplate other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        other.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE users SET version = version + 1 WHERE id = ?", user.getId()));
+    }
+
+    private double conflicts(String outcome) {
+        return meterRegistry.counter(OptimisticLockRetry.METER_NAME, "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,66 @@
+package dev.ganeshpalankar.rentals_backend.common.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredException;
+import dev.ganeshpalankar.rentals_backend.users.exception.UserNotRegisteredExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorResponseWriter Unit Tests")
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+
+    @Test
+    @DisplayName("write() - Should produce the same body from a template as from the full ErrorResponse")
+    void write_WithTemplate_ShouldMatchSerializedErrorResponse() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/\"quoted\"/é");
+        UserNotRegisteredException exception = new UserNotRegisteredException("auth0|\"tricky\"\n");
+        MockHttpServletResponse fromTemplate = new MockHttpServletResponse();
+        MockHttpServletResponse fromObject = new MockHttpServletResponse();
+
+        // When
+        writer.write(fromTemplate, request, UserNotRegisteredExceptionHandler.TEMPLATE,
+                UserNotRegisteredExceptionHandler.details(exception));
+        writer.write(fromObject, new UserNotRegisteredExceptionHandler().handle(exception, request));
+
+        // Then
+        assertThat(fromTemplate.getStatus()).isEqualTo(403).isEqualTo(fromObject.getStatus());
+        assertThat(fromTemplate.getContentType()).isEqualTo(fromObject.getContentType());
+        JsonNode templateBody = objectMapper.readTree(fromTemplate.getContentAsByteArray());
+        JsonNode objectBody = objectMapper.readTree(fromObject.getContentAsByteArray());
+        assertThat(templateBody.get("timestamp").getNodeType()).isEqualTo(objectBody.get("timestamp").getNodeType());
+        assertThat(withoutTimestamp(templateBody)).isEqualTo(withoutTimestamp(objectBody));
+    }
+
+    @Test
+    @DisplayName("write() - Should write null details as JSON null")
+    void write_WithNullDetails_ShouldWriteNull() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(response, new MockHttpServletRequest("GET", "/x"),
+                UserNotRegisteredExceptionHandler.TEMPLATE, null);
+
+        // Then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("error").get("details").isNull()).isTrue();
+        assertThat(body.get("fieldErrors").isEmpty()).isTrue();
+    }
+
+    private static JsonNode withoutTimestamp(JsonNode body) {
+        ObjectNode copy = body.deepCopy();
+        copy.remove("timestamp");
+        return copy;
+    }
+}
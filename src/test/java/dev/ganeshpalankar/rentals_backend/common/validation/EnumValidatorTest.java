@@ -0,0 +1,78 @@
+package dev.ganeshpalankar.rentals_backend.common.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EnumValidator Unit Tests")
+class EnumValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    enum PropertyType { APARTMENT, HOUSE, CONDO }
+
+    record Listing(
+            @ValidEnum(enumClass = PropertyType.class, message = "Invalid property type")
+            String type,
+            @ValidEnum(enumClass = PropertyType.class, ignoreCase = true)
+            String looseType,
+            @ValidEnum(enumClass = PropertyType.class, message = "Invalid property type", listAllowedValues = true)
+            String listedType) {
+    }
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("isValid() - Should accept exact constant names and null")
+    void isValid_WithConstantNameOrNull_ShouldPass() {
+        assertThat(validator.validate(new Listing("HOUSE", "CONDO", "APARTMENT"))).isEmpty();
+        assertThat(validator.validate(new Listing(null, null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("isValid() - Should be case-sensitive unless ignoreCase is set")
+    void isValid_WithDifferentCase_ShouldOnlyPassWhenIgnoringCase() {
+        // When
+        Set<ConstraintViolation<Listing>> violations = validator.validate(new Listing("house", "house", null));
+
+        // Then
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("type");
+        assertThat(violations).extracting(ConstraintViolation::getMessage)
+                .containsExactly("Invalid property type");
+    }
+
+    @Test
+    @DisplayName("isValid() - Should list allowed values in the message when asked to")
+    void isValid_WithListAllowedValues_ShouldIncludeValuesInMessage() {
+        // When
+        Set<ConstraintViolation<Listing>> violations = validator.validate(new Listing(null, "castle", "${castle}"));
+
+        // Then
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("looseType", "listedType");
+        assertThat(violations)
+                .filteredOn(violation -> violation.getPropertyPath().toString().equals("listedType"))
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Invalid property type. Allowed values: APARTMENT, HOUSE, CONDO");
+    }
+}
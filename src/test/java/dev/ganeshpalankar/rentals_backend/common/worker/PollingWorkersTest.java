@@ -0,0 +1,74 @@
+package dev.ganeshpalankar.rentals_backend.common.worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PollingWorkers Unit Tests")
+class PollingWorkersTest {
+
+    @Test
+    @DisplayName("start() - Should keep calling the batch function on every worker, each with its own id")
+    void start_ShouldRunBatchesOnEachWorker() throws Exception {
+        // Given
+        Set<String> workerIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger batches = new AtomicInteger();
+        CountDownLatch drained = new CountDownLatch(10);
+        PollingWorkers workers = new PollingWorkers("test-worker", 3, Duration.ofMinutes(1), Duration.ofSeconds(5),
+                workerId -> {
+                    workerIds.add(workerId);
+                    drained.countDown();
+                    // Ten batches of work, then an empty queue
+                    return batches.incrementAndGet() <= 10 ? 1 : 0;
+                });
+
+        // When
+        workers.start();
+        try {
+            // Then: busy workers don't wait out the poll interval between batches
+            assertThat(drained.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            workers.stop();
+        }
+        assertThat(workers.isRunning()).isFalse();
+        assertThat(workerIds).hasSizeBetween(1, 3).allMatch(id -> id.matches("[0-9a-f]{8}-[1-3]"));
+    }
+
+    @Test
+    @DisplayName("stop() - Should wait for busy workers up to one overall timeout, not one per worker")
+    void stop_WithBusyWorkers_ShouldWaitAtMostTheStopTimeout() throws Exception {
+        // Given
+        CountDownLatch busy = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        PollingWorkers workers = new PollingWorkers("test-worker", 4, Duration.ofMillis(10),
+                Duration.ofMillis(500), workerId -> {
+                    busy.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 0;
+                });
+        workers.start();
+        assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long started = System.nanoTime();
+        workers.stop();
+        long stoppedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        // Then
+        assertThat(stoppedMillis).isBetween(450L, 1500L);
+        assertThat(workers.isRunning()).isFalse();
+    }
+}
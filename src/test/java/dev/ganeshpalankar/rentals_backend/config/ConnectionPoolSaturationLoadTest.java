@@ -0,0 +1,186 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.ganeshpalankar.rentals_backend.RentalsBackendApplication;
+import dev.ganeshpalankar.rentals_backend.support.LocalJwksServer;
+import dev.ganeshpalankar.rentals_backend.users.service.UserProvisioningService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the {@code prod} profile, against a file-backed H2 database migrated by Flyway, past the capacity
+ * of its connection pool. Each request holds a connection for a fixed time, and far more requests are sent
+ * at once than the pool can serve within its connection timeout. Requests that can't get a connection in
+ * time must fail with 503 once the pool's connection timeout has passed rather than queue, and the pool must
+ * never grow past its maximum size. Every request is authenticated as a different user, so each one also looks
+ * its user up in the registration filter, before any controller: a request can be turned away there or in the
+ * endpoint, and must get the same 503 either way. Waits are read from Hikari's own meters, since on a small
+ * machine the client-side latency is dominated by HTTP handling rather than by the pool.
+ * Run with {@code ./mvnw -Pload-test test}.
+ */
+@Tag("load")
+@DisplayName("Connection Pool Saturation Load Test")
+class ConnectionPoolSaturationLoadTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofMillis(250);
+    private static final Duration HOLD_TIME = Duration.ofMillis(200);
+    private static final int CONCURRENCY = 200;
+
+    @TempDir
+    Path databaseDirectory;
+
+    @Test
+    @DisplayName("Saturated pool rejects excess requests with 503 within the connection timeout")
+    void saturatedPool_ShouldFailFastWith503() throws Exception {
+        LocalJwksServer jwks = LocalJwksServer.shared();
+        String url = "jdbc:h2:file:" + databaseDirectory.resolve("rentals")
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;AUTO_SERVER=TRUE";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RentalsBackendApplication.class)
+                .profiles("prod")
+                .initializers(ctx -> ((ServletWebServerApplicationContext) ctx).registerBean(
+                        "connectionHoldingEndpoint", RouterFunction.class, () -> connectionHoldingEndpoint(
+                                ctx.getBean(JdbcTemplate.class), ctx.getBean(TransactionTemplate.class))))
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=true",
+                        "logging.level.root=WARN")
+                // Passed as arguments so they override the profile's own settings
+                .run("--spring.datasource.url=" + url,
+                        "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + jwks.jwkSetUri(),
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=" + CONNECTION_TIMEOUT.toMillis(),
+                        // Background workers would also time out waiting for the pool, with no request to answer
+                        "--rentals.maintenance.dispatch.workers-enabled=false",
+                        "--rentals.outbox.relay-enabled=false")) {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            // One user per request, each unknown to the registration filter's cache
+            List<String> subjects = IntStream.range(0, CONCURRENCY).mapToObj(i -> "pool|" + i).toList();
+            context.getBean(UserProvisioningService.class)
+                    .provision(new StringReader(subjects.stream().collect(Collectors.joining("\n"))));
+            List<String> tokens = subjects.stream().map(jwks::mintToken).toList();
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/load/hold-connection");
+
+            Result result = burst(uri, tokens, dataSource);
+            Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+            Counter timeouts = meterRegistry.get("hikaricp.connections.timeout").counter();
+
+            System.out.printf("%8s %8s %8s %16s %22s %20s%n",
+                    "ok", "503", "other", "peak active", "slowest acquire (ms)", "slowest 503 (ms)");
+            System.out.printf("%8d %8d %8d %16d %22.1f %20.1f%n", result.ok(), result.unavailable(), result.other(),
+                    result.peakActive(), acquire.max(TimeUnit.MILLISECONDS), result.slowestUnavailableMillis());
+
+            assertThat(result.other()).isZero();
+            assertThat(result.ok()).isGreaterThanOrEqualTo(POOL_SIZE);
+            assertThat(result.peakActive()).isLessThanOrEqualTo(POOL_SIZE);
+            // Every 503 is a request the pool turned away after its connection timeout...
+            assertThat(result.unavailable()).isPositive();
+            assertThat(timeouts.count()).isEqualTo(result.unavailable());
+            // ...and no request waited much longer than that for a connection. Draining the whole burst through
+            // the pool would take CONCURRENCY * HOLD_TIME / POOL_SIZE (10s); the slack only covers scheduling delays
+            assertThat(acquire.max(TimeUnit.MILLISECONDS)).isLessThan(CONNECTION_TIMEOUT.toMillis() + 2000);
+        }
+    }
+
+    private static RouterFunction<ServerResponse> connectionHoldingEndpoint(JdbcTemplate jdbcTemplate,
+                                                                            TransactionTemplate transactionTemplate) {
+        return RouterFunctions.route()
+                .GET("/load/hold-connection", request -> {
+                    Long users = transactionTemplate.execute(status -> {
+                        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+                        try {
+                            Thread.sleep(HOLD_TIME);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return count;
+                    });
+                    return ServerResponse.ok().body(String.valueOf(users));
+                })
+                .build();
+    }
+
+    private Result burst(URI uri, List<String> tokens, HikariDataSource dataSource) throws Exception {
+        AtomicInteger peakActive = new AtomicInteger();
+        List<Future<long[]>> responses = new ArrayList<>(CONCURRENCY);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+            // A platform thread, so sampling doesn't compete with the requests for carrier threads
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                try {
+                    while (true) {
+                        peakActive.accumulateAndGet(dataSource.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                        Thread.sleep(1);
+                    }
+                } catch (InterruptedException ex) {
+                    // Done sampling
+                }
+            });
+            for (String token : tokens) {
+                HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).build();
+                responses.add(executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return new long[]{response.statusCode(), System.nanoTime() - sent};
+                }));
+            }
+
+            int ok = 0;
+            int unavailable = 0;
+            int other = 0;
+            long slowestUnavailable = 0;
+            for (Future<long[]> response : responses) {
+                long[] statusAndLatency = response.get();
+                if (statusAndLatency[0] == 200) {
+                    ok++;
+                } else if (statusAndLatency[0] == 503) {
+                    unavailable++;
+                    slowestUnavailable = Math.max(slowestUnavailable, statusAndLatency[1]);
+                } else {
+                    other++;
+                }
+            }
+            sampler.interrupt();
+            return new Result(ok, unavailable, other, slowestUnavailable / 1_000_000.0, peakActive.get());
+        }
+    }
+
+    private record Result(int ok, int unavailable, int other, double slowestUnavailableMillis, int peakActive) {}
+}
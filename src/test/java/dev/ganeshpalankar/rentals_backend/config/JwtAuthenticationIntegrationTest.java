@@ -0,0 +1,60 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import dev.ganeshpalankar.rentals_backend.support.LocalJwksServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("JWT Authentication Integration Tests")
+class JwtAuthenticationIntegrationTest {
+
+    private static final LocalJwksServer JWKS_SERVER = LocalJwksServer.shared();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void jwtProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", JWKS_SERVER::jwkSetUri);
+    }
+
+    @Test
+    @DisplayName("POST /users/signup - Should accept a token signed by the issuer")
+    void signup_WithIssuerToken_ShouldCreateUser() throws Exception {
+        mockMvc.perform(post("/users/signup")
+                        .header("Authorization", "Bearer " + JWKS_SERVER.mintToken("auth0|jwt-integration")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.externalId").value("auth0|jwt-integration"));
+    }
+
+    @Test
+    @DisplayName("POST /users/signup - Should reject a token signed by another key")
+    void signup_WithForeignToken_ShouldReturnUnauthorized() throws Exception {
+        try (LocalJwksServer otherIssuer = new LocalJwksServer()) {
+            mockMvc.perform(post("/users/signup")
+                            .header("Authorization", "Bearer " + otherIssuer.mintToken("auth0|mallory")))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Test
+    @DisplayName("POST /users/signup - Should reject an expired token")
+    void signup_WithExpiredToken_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/users/signup")
+                        .header("Authorization", "Bearer " + JWKS_SERVER.mintToken("auth0|late", Duration.ofMinutes(-5))))
+                .andExpect(status().isUnauthorized());
+    }
+}
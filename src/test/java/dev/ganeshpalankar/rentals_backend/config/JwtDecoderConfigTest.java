@@ -0,0 +1,124 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import dev.ganeshpalankar.rentals_backend.support.LocalJwksServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtDecoderConfig Unit Tests")
+class JwtDecoderConfigTest {
+
+    private LocalJwksServer jwksServer;
+    private final JwtDecoderConfig config = new JwtDecoderConfig();
+    private final JwtDecoderProperties properties = new JwtDecoderProperties();
+    private final OAuth2ResourceServerProperties resourceServerProperties = new OAuth2ResourceServerProperties();
+
+    @BeforeEach
+    void setUp() {
+        jwksServer = new LocalJwksServer();
+        resourceServerProperties.getJwt().setJwkSetUri(jwksServer.jwkSetUri());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    @DisplayName("jwkSource() - Should fetch the JWK set at startup")
+    void jwkSource_ShouldPreloadKeys() throws Exception {
+        // When
+        config.jwkSource(resourceServerProperties, properties);
+
+        // Then
+        assertThat(jwksServer.jwksRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("jwtDecoder() - Should validate tokens without fetching keys again")
+    void jwtDecoder_WithValidToken_ShouldDecodeFromCachedKeys() throws Exception {
+        // Given
+        JwtDecoder decoder = config.jwtDecoder(
+                config.jwkSource(resourceServerProperties, properties),
+                resourceServerProperties, properties, new SimpleMeterRegistry());
+
+        // When
+        Jwt jwt = decoder.decode(jwksServer.mintToken("auth0|alice"));
+        decoder.decode(jwksServer.mintToken("auth0|bob"));
+
+        // Then
+        assertThat(jwt.getSubject()).isEqualTo("auth0|alice");
+        assertThat(jwksServer.jwksRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("jwtDecoder() - Should reject tokens signed by another key")
+    void jwtDecoder_WithForeignToken_ShouldThrow() throws Exception {
+        // Given
+        JwtDecoder decoder = config.jwtDecoder(
+                config.jwkSource(resourceServerProperties, properties),
+                resourceServerProperties, properties, new SimpleMeterRegistry());
+
+        try (LocalJwksServer otherIssuer = new LocalJwksServer()) {
+            // When & Then
+            assertThatThrownBy(() -> decoder.decode(otherIssuer.mintToken("auth0|mallory")))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("CachingJwtDecoder - Should verify a repeated token only once")
+    void cachingJwtDecoder_WithRepeatedToken_ShouldCallDelegateOnce() throws Exception {
+        // Given
+        JwtDecoder validating = config.jwtDecoder(
+                config.jwkSource(resourceServerProperties, properties),
+                resourceServerProperties, tokenCacheDisabled(), new SimpleMeterRegistry());
+        JwtDecoder delegate = spy(validating);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, new SimpleMeterRegistry());
+        String token = jwksServer.mintToken("auth0|alice");
+
+        // When
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).decode(anyString());
+    }
+
+    @Test
+    @DisplayName("CachingJwtDecoder - Should not cache rejected tokens")
+    void cachingJwtDecoder_WithExpiredToken_ShouldRejectEveryTime() throws Exception {
+        // Given
+        JwtDecoder validating = config.jwtDecoder(
+                config.jwkSource(resourceServerProperties, properties),
+                resourceServerProperties, tokenCacheDisabled(), new SimpleMeterRegistry());
+        JwtDecoder delegate = spy(validating);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, new SimpleMeterRegistry());
+        String expired = jwksServer.mintToken("auth0|alice", Duration.ofMinutes(-5));
+
+        // When & Then
+        assertThatThrownBy(() -> decoder.decode(expired)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(expired)).isInstanceOf(JwtException.class);
+        verify(delegate, times(2)).decode(anyString());
+    }
+
+    private JwtDecoderProperties tokenCacheDisabled() {
+        JwtDecoderProperties disabled = new JwtDecoderProperties();
+        disabled.setTokenCacheEnabled(false);
+        return disabled;
+    }
+}
@@ -0,0 +1,196 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import dev.ganeshpalankar.rentals_backend.common.metrics.ErrorMetrics;
+import dev.ganeshpalankar.rentals_backend.common.response.ErrorResponseWriter;
+import dev.ganeshpalankar.rentals_backend.users.config.UserIdCacheProperties;
+import dev.ganeshpalankar.rentals_backend.users.context.CurrentUser;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import dev.ganeshpalankar.rentals_backend.users.service.UserContextService;
+import dev.ganeshpalankar.rentals_backend.users.service.UserIdCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegisteredUserFilter Unit Tests")
+class RegisteredUserFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserContextService userContextService;
+    private RegisteredUserFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final String externalId = "auth0|123456789";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        UserIdCache userIdCache = new UserIdCache(userRepository, new UserIdCacheProperties(), new SimpleMeterRegistry());
+        userContextService = new UserContextService(userRepository, userIdCache);
+        filter = new RegisteredUserFilter(userContextService, new RegistrationCheckProperties(),
+                new ErrorResponseWriter(Jackson2ObjectMapperBuilder.json().build()),
+                new ErrorMetrics(meterRegistry), meterRegistry);
+
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(externalId)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Should look the user up at most once per request")
+    void doFilter_WhenUserIsRegistered_ShouldQueryUserOnce() throws Exception {
+        // Given
+        User user = new User();
+        user.setId(1L);
+        user.setExternalId(externalId);
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.of(user));
+
+        // When
+        MockHttpServletRequest request = performRequest();
+
+        // Then
+        assertThat(request.getAttribute(CurrentUser.REQUEST_ATTRIBUTE))
+                .isInstanceOfSatisfying(CurrentUser.class, currentUser ->
+                        assertThat(currentUser.getUserId()).isEqualTo(1L));
+        verify(userRepository, times(1)).findByExternalId(externalId);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("doFilter() - Should only load the entity on a later request with a cached user ID")
+    void doFilter_WhenUserIdIsCached_ShouldLoadEntityOnce() throws Exception {
+        // Given
+        User user = new User();
+        user.setId(1L);
+        user.setExternalId(externalId);
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        performRequest();
+
+        // When
+        performRequest();
+
+        // Then
+        verify(userRepository, times(1)).findByExternalId(anyString());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("doFilter() - Should reject unregistered users with 403")
+    void doFilter_WhenUserIsNotRegistered_ShouldReturnForbidden() throws Exception {
+        // Given
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.empty());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsString())
+                .contains("\"code\":\"USER_NOT_REGISTERED\"")
+                .contains("\"details\":\"User with external ID 'auth0|123456789' is not registered. Please complete signup.\"")
+                .contains("\"path\":\"/users/1\"");
+        verifyNoInteractions(chain);
+        assertThat(meterRegistry.timer("rentals.registration.check", "phase", "lookup").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("rentals.registration.check", "phase", "error_write").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("rentals.errors", "type", "AUTHORIZATION_ERROR", "code", "USER_NOT_REGISTERED")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doFilter() - Should answer 503 with Retry-After when no database connection is available")
+    void doFilter_WhenConnectionUnavailable_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(userRepository.findByExternalId(externalId))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString())
+                .contains("\"code\":\"DATABASE_BUSY\"")
+                .contains("\"path\":\"/users/1\"");
+        verifyNoInteractions(chain);
+        assertThat(meterRegistry.counter("rentals.errors", "type", "SERVER_ERROR", "code", "DATABASE_BUSY")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doFilter() - Should skip the registration check for configured paths")
+    void doFilter_WhenPathIsSkipped_ShouldNotLookUpUser() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/signup");
+        request.setRequestURI("/users/signup");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        verify(chain).doFilter(request, response);
+        verifyNoInteractions(userRepository);
+    }
+
+    /**
+     * Runs a request through the filter whose handler asks for the current user several times.
+     */
+    private MockHttpServletRequest performRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        filter.doFilter(request, response, (req, res) -> {
+            userContextService.getCurrentUserId();
+            userContextService.getCurrentUser();
+            userContextService.getCurrentUserId();
+        });
+
+        RequestContextHolder.resetRequestAttributes();
+        return request;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SkipPathMatcher Unit Tests")
+class SkipPathMatcherTest {
+
+    private final SkipPathMatcher matcher = new SkipPathMatcher(List.of(
+            "/public/**",
+            "/users/signup",
+            "/files/{id}/preview"
+    ));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/public", "/public/", "/public/h2-console", "/public/a/b/c", "/users/signup", "/files/42/preview"})
+    @DisplayName("matches() - Should match configured paths")
+    void matches_WhenPathIsConfigured_ShouldReturnTrue(String uri) {
+        assertThat(matcher.matches(uri)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/publicity", "/users", "/users/signup/extra", "/users/1", "/files/42", "/"})
+    @DisplayName("matches() - Should not match other paths")
+    void matches_WhenPathIsNotConfigured_ShouldReturnFalse(String uri) {
+        assertThat(matcher.matches(uri)).isFalse();
+    }
+
+    @Test
+    @DisplayName("matches() - Should match nothing when no patterns are configured")
+    void matches_WithNoPatterns_ShouldReturnFalse() {
+        assertThat(new SkipPathMatcher(List.of()).matches("/public/x")).isFalse();
+    }
+}
@@ -0,0 +1,127 @@
+package dev.ganeshpalankar.rentals_backend.config;
+
+import dev.ganeshpalankar.rentals_backend.RentalsBackendApplication;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput and p99 latency of platform-thread and virtual-thread request handling.
+ * The endpoint under test does one repository query and then blocks for a fixed time,
+ * standing in for a remote call such as a JWKS fetch. Run with {@code ./mvnw -Pload-test test}.
+ */
+@Tag("load")
+@DisplayName("Virtual Thread Load Test")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENCY = 800;
+    private static final int REQUESTS = 16_000;
+    private static final Duration BLOCKING_TIME = Duration.ofMillis(20);
+
+    @Test
+    @DisplayName("Virtual threads vs platform threads on a blocking endpoint")
+    void compareThreadModels() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-10s %12s %12s %8s%n", "threads", "req/s", "p99 (ms)", "errors");
+        System.out.printf("%-10s %12.0f %12.1f %8d%n", "platform", platform.throughput(), platform.p99Millis(), platform.errors());
+        System.out.printf("%-10s %12.0f %12.1f %8d%n", "virtual", virtual.throughput(), virtual.p99Millis(), virtual.errors());
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RentalsBackendApplication.class)
+                .initializers(ctx -> ((ServletWebServerApplicationContext) ctx).registerBean(
+                        "blockingEndpoint", RouterFunction.class, () -> blockingEndpoint(ctx.getBean(UserRepository.class))))
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/public/load/blocking");
+            warmUp(uri);
+            return hammer(uri);
+        }
+    }
+
+    private static RouterFunction<ServerResponse> blockingEndpoint(UserRepository userRepository) {
+        return RouterFunctions.route()
+                .GET("/public/load/blocking", request -> {
+                    boolean exists = userRepository.existsByExternalId("load|probe");
+                    Thread.sleep(BLOCKING_TIME);
+                    return ServerResponse.ok().body(String.valueOf(exists));
+                })
+                .build();
+    }
+
+    private void warmUp(URI uri) throws Exception {
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            for (int i = 0; i < 200; i++) {
+                client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+            }
+        }
+    }
+
+    private Result hammer(URI uri) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(
+                                HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(CONCURRENCY);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        double p99Millis = latencies[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1_000_000.0;
+        return new Result(REQUESTS / (elapsed / 1_000_000_000.0), p99Millis, errors.get());
+    }
+
+    private record Result(double throughput, double p99Millis, int errors) {}
+}
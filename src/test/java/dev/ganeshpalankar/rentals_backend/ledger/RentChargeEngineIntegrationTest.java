@@ -0,0 +1,298 @@
+package dev.ganeshpalankar.rentals_backend.ledger;
+
+import dev.ganeshpalankar.rentals_backend.ledger.config.RentChargeProperties;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.RentChargeRunReport;
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRun;
+import dev.ganeshpalankar.rentals_backend.ledger.model.RentChargeRunStatus;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.RentChargeFailureRepository;
+import dev.ganeshpalankar.rentals_backend.ledger.repository.RentChargeRunRepository;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentChargeChunkProcessor;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentChargeEngine;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentLedgerService;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.StartLeaseRequest;
+import dev.ganeshpalankar.rentals_backend.properties.service.LeaseService;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioSummaryService;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "rentals.ledger.snapshot-interval=2",
+        "rentals.rent-charges.chunk-size=2",
+        "rentals.rent-charges.parallelism=2",
+        "rentals.rent-charges.schedule-enabled=false"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Rent Charge Engine Integration Tests")
+class RentChargeEngineIntegrationTest {
+
+    private static final long RENT_CENTS = 120_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Autowired
+    private RentLedgerService rentLedgerService;
+
+    @Autowired
+    private PortfolioSummaryService portfolioSummaryService;
+
+    @Autowired
+    private RentChargeEngine rentChargeEngine;
+
+    @Autowired
+    private RentChargeChunkProcessor chunkProcessor;
+
+    @Autowired
+    private RentChargeRunRepository runRepository;
+
+    @Autowired
+    private RentChargeFailureRepository failureRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RentChargeProperties rentChargeProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private List<Long> leaseIds;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.signup("charges|" + UUID.randomUUID());
+        Long propertyId = propertyService.createProperty(owner.getId(),
+                new CreatePropertyRequest("Charge House", null, null)).getId();
+        leaseIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Long unitId = propertyService.addUnit(owner.getId(), propertyId, new CreateUnitRequest("U" + i)).getId();
+            leaseIds.add(leaseService.startLease(owner.getId(), unitId,
+                    new StartLeaseRequest("Tenant " + i, RENT_CENTS, LocalDate.of(2026, 1, 1))).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("run() - Should charge every active lease once, however often the month is run")
+    void run_ShouldChargeEachActiveLeaseOncePerMonth() {
+        // Given
+        leaseService.endLease(owner.getId(), leaseIds.getLast());
+
+        // When
+        RentChargeRunReport first = rentChargeEngine.run(YearMonth.of(2031, 1));
+        RentChargeRunReport second = rentChargeEngine.run(YearMonth.of(2031, 1));
+        rentChargeEngine.run(YearMonth.of(2031, 2));
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(RentChargeRunStatus.COMPLETED);
+        assertThat(first.getChargedCount()).isGreaterThanOrEqualTo(4);
+        assertThat(second.getChargedCount()).isZero();
+        assertThat(second.getSkippedCount()).isEqualTo(first.getChargedCount() + first.getSkippedCount());
+        for (Long leaseId : leaseIds.subList(0, 4)) {
+            assertThat(rentLedgerService.getBalance(owner.getId(), leaseId, null).getBalanceCents())
+                    .isEqualTo(2 * RENT_CENTS);
+            assertThat(jdbcTemplate.queryForList(
+                    "SELECT charge_period FROM rent_ledger_entries WHERE lease_id = ? ORDER BY sequence",
+                    LocalDate.class, leaseId))
+                    .containsExactly(LocalDate.of(2031, 1, 1), LocalDate.of(2031, 2, 1));
+            // Every second entry leaves a snapshot
+            assertThat(rentLedgerService.getBalance(owner.getId(), leaseId, LocalDate.of(2031, 12, 31))
+                    .getBalanceCents()).isEqualTo(2 * RENT_CENTS);
+        }
+        assertThat(rentLedgerService.getBalance(owner.getId(), leaseIds.getLast(), null).getBalanceCents()).isZero();
+        assertThat(portfolioSummaryService.getSummary(owner.getId()).getOutstandingRentCents())
+                .isEqualTo(8 * RENT_CENTS);
+    }
+
+    @Test
+    @DisplayName("run() - Should skip checkpointed chunks when resuming an interrupted run")
+    void run_AfterInterruption_ShouldResumeFromCheckpoints() {
+        // Given: a run that checkpointed the chunk holding the first lease before it stopped
+        YearMonth period = YearMonth.of(2032, 3);
+        RentChargeRun interrupted = new RentChargeRun();
+        interrupted.setPeriod(period.atDay(1));
+        interrupted.setStatus(RentChargeRunStatus.RUNNING);
+        interrupted.setChunkSize(2);
+        interrupted.setMaxLeaseId(leaseIds.getLast());
+        interrupted = runRepository.save(interrupted);
+        long afterLeaseId = (leaseIds.getFirst() - 1) / 2 * 2;
+        RentChargeChunkProcessor.ChunkResult checkpointed =
+                chunkProcessor.process(interrupted.getId(), period, afterLeaseId, afterLeaseId + 2);
+
+        // When
+        RentChargeRunReport report = rentChargeEngine.run(period);
+
+        // Then
+        assertThat(report.getId()).isEqualTo(interrupted.getId());
+        assertThat(report.getStatus()).isEqualTo(RentChargeRunStatus.COMPLETED);
+        assertThat(checkpointed.charged()).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM rent_charge_chunks WHERE run_id = ?", Long.class, report.getId()))
+                .isEqualTo((leaseIds.getLast() + 1) / 2);
+        for (Long leaseId : leaseIds) {
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM rent_ledger_entries WHERE lease_id = ? AND charge_period = ?",
+                    Long.class, leaseId, period.atDay(1))).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("run() - Should charge no more chunks once shut down, and leave the run for the next one to finish")
+    void run_AfterShutdown_ShouldLeaveTheRunToResume() {
+        // Given
+        YearMonth period = YearMonth.of(2034, 7);
+        RentChargeEngine stopped = new RentChargeEngine(runRepository, failureRepository, chunkProcessor,
+                jdbcTemplate, transactionTemplate, rentChargeProperties);
+        stopped.shutdown();
+
+        // When
+        RentChargeRunReport interrupted = stopped.run(period);
+        RentChargeRunReport resumed = rentChargeEngine.run(period);
+
+        // Then
+        assertThat(interrupted.getStatus()).isEqualTo(RentChargeRunStatus.RUNNING);
+        assertThat(interrupted.getChargedCount()).isZero();
+        assertThat(resumed.getId()).isEqualTo(interrupted.getId());
+        assertThat(resumed.getStatus()).isEqualTo(RentChargeRunStatus.COMPLETED);
+        for (Long leaseId : leaseIds) {
+            assertThat(rentLedgerService.getBalance(owner.getId(), leaseId, null).getBalanceCents())
+                    .isEqualTo(RENT_CENTS);
+        }
+    }
+
+    @Test
+    @DisplayName("process() - Should charge a chunk holding a lease that hasn't started yet in one batch")
+    void process_WithFutureLease_ShouldChargeTheChunkInOneBatch(CapturedOutput output) {
+        // Given: a chunk holding the last lease and one starting later, whose ledger has never been posted to
+        Long propertyId = propertyService.createProperty(owner.getId(),
+                new CreatePropertyRequest("Future House", null, null)).getId();
+        Long unitId = propertyService.addUnit(owner.getId(), propertyId, new CreateUnitRequest("F1")).getId();
+        Long future = leaseService.startLease(owner.getId(), unitId,
+                new StartLeaseRequest("Future Tenant", RENT_CENTS, LocalDate.of(2099, 1, 1))).getId();
+        Long current = leaseIds.getLast();
+        assertThat(future).isEqualTo(current + 1);
+        YearMonth period = YearMonth.of(2035, 1);
+        RentChargeRun run = new RentChargeRun();
+        run.setPeriod(period.atDay(1));
+        run.setStatus(RentChargeRunStatus.RUNNING);
+        run.setChunkSize(2);
+        run.setMaxLeaseId(future);
+        run = runRepository.save(run);
+
+        // When
+        RentChargeChunkProcessor.ChunkResult result = chunkProcessor.process(run.getId(), period, current - 1, future);
+
+        // Then
+        assertThat(result).isEqualTo(new RentChargeChunkProcessor.ChunkResult(1, 0, 0));
+        assertThat(output).doesNotContain("failed as a whole");
+        assertThat(rentLedgerService.getBalance(owner.getId(), current, null).getBalanceCents()).isEqualTo(RENT_CENTS);
+        assertThat(rentLedgerService.getBalance(owner.getId(), future, null).getBalanceCents()).isZero();
+    }
+
+    @Test
+    @DisplayName("run() - Should report a lease that can't be charged and charge the rest of its chunk")
+    void run_WithBrokenLease_ShouldReportItAndChargeTheRest() {
+        // Given
+        Long broken = leaseIds.get(2);
+        jdbcTemplate.update("DELETE FROM lease_balances WHERE lease_id = ?", broken);
+
+        // When
+        RentChargeRunReport report = rentChargeEngine.run(YearMonth.of(2033, 5));
+
+        // Then
+        assertThat(report.getFailedCount()).isEqualTo(1);
+        assertThat(report.getFailures()).singleElement().satisfies(failure -> {
+            assertThat(failure.getLeaseId()).isEqualTo(broken);
+            assertThat(failure.getError().getCode()).isEqualTo("LEDGER_NOT_FOUND");
+            assertThat(failure.getError().getType()).isEqualTo("RESOURCE_NOT_FOUND");
+        });
+        for (Long leaseId : leaseIds) {
+            if (!leaseId.equals(broken)) {
+                assertThat(rentLedgerService.getBalance(owner.getId(), leaseId, null).getBalanceCents())
+                        .isEqualTo(RENT_CENTS);
+            }
+        }
+        assertThat(portfolioSummaryService.getSummary(owner.getId()).getOutstandingRentCents())
+                .isEqualTo(4 * RENT_CENTS);
+    }
+
+    @Test
+    @DisplayName("POST /rent-charges/runs - Should start a run in the background for callers with the scope")
+    void startRun_ShouldRequireScopeAndReportProgress() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/rent-charges/runs")
+                        .with(jwt().jwt(jwt -> jwt.subject(owner.getExternalId())))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"period\":\"2034-07\"}"))
+                .andExpect(status().isForbidden());
+        String body = mockMvc.perform(post("/rent-charges/runs").with(operator())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"period\":\"2034-07\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.period").value("2034-07"))
+                .andReturn().getResponse().getContentAsString();
+        Long runId = Long.valueOf(body.replaceAll("(?s).*\"id\":(\\d+).*", "$1"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (runRepository.findById(runId).orElseThrow().getStatus() != RentChargeRunStatus.COMPLETED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        mockMvc.perform(get("/rent-charges/runs/{id}", runId).with(operator()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"));
+        for (Long leaseId : leaseIds) {
+            assertThat(rentLedgerService.getBalance(owner.getId(), leaseId, null).getBalanceCents())
+                    .isEqualTo(RENT_CENTS);
+        }
+        mockMvc.perform(post("/rent-charges/runs").with(operator())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"period\":\"July\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private RequestPostProcessor operator() {
+        return jwt().jwt(jwt -> jwt.subject(owner.getExternalId()))
+                .authorities(new SimpleGrantedAuthority("SCOPE_rent-charges:run"));
+    }
+}
@@ -0,0 +1,130 @@
+package dev.ganeshpalankar.rentals_backend.ledger;
+
+import dev.ganeshpalankar.rentals_backend.RentalsBackendApplication;
+import dev.ganeshpalankar.rentals_backend.ledger.dto.RentChargeRunReport;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntryType;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentChargeEngine;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentLedgerService;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Charges a month's rent to a large number of leases (200k by default, spread over {@value #OWNERS} owners)
+ * in a file-backed H2 database, and compares the batch engine with posting the same charges one at a time
+ * through {@link RentLedgerService}. Running the month again must charge nothing.
+ * The engine only reads leases, so each owner's seeded leases share one unit.
+ * Run with {@code ./mvnw -Pload-test test -Dtest=RentChargeEngineLoadTest}; pass {@code -Drent-charges.leases=N}
+ * to change the number of leases.
+ */
+@Tag("load")
+@DisplayName("Rent Charge Engine Load Test")
+class RentChargeEngineLoadTest {
+
+    private static final int OWNERS = 100;
+    private static final int LEASES = Integer.getInteger("rent-charges.leases", 200_000);
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ONE_BY_ONE_SAMPLE = 2_000;
+    private static final long RENT_CENTS = 100_000L;
+
+    @TempDir
+    Path databaseDirectory;
+
+    @Test
+    @DisplayName("Batch run charges every lease far faster than posting one charge at a time")
+    void run_ShouldChargeEveryLeaseInBatches() {
+        String url = "jdbc:h2:file:" + databaseDirectory.resolve("charges")
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;CACHE_SIZE=262144";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RentalsBackendApplication.class)
+                .profiles("prod")
+                .properties(
+                        "server.port=0",
+                        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+                        "logging.level.root=WARN")
+                // Passed as arguments so they override application.yaml
+                .run("--spring.datasource.url=" + url, "--rentals.rent-charges.schedule-enabled=false")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            RentChargeEngine engine = context.getBean(RentChargeEngine.class);
+            RentLedgerService rentLedgerService = context.getBean(RentLedgerService.class);
+            seed(context, jdbcTemplate);
+
+            // One charge at a time, on a sample of the leases and for an earlier month
+            List<long[]> sample = jdbcTemplate.query("SELECT id, owner_id FROM leases ORDER BY id LIMIT ?",
+                    (rs, row) -> new long[]{rs.getLong(1), rs.getLong(2)}, ONE_BY_ONE_SAMPLE);
+            long start = System.nanoTime();
+            for (long[] lease : sample) {
+                rentLedgerService.post(lease[1], lease[0], LedgerEntryType.CHARGE, RENT_CENTS, "Rent");
+            }
+            double oneByOneMicros = (System.nanoTime() - start) / 1_000.0 / ONE_BY_ONE_SAMPLE;
+
+            start = System.nanoTime();
+            RentChargeRunReport report = engine.run(YearMonth.of(2026, 11));
+            double batchSeconds = (System.nanoTime() - start) / 1e9;
+            RentChargeRunReport rerun = engine.run(YearMonth.of(2026, 11));
+
+            System.out.printf("%,d leases%n", LEASES);
+            System.out.printf("%20s %20s %24s%n", "batch run (s)", "batch (us/lease)", "one by one (us/lease)");
+            System.out.printf("%20.1f %20.1f %24.1f%n", batchSeconds, batchSeconds * 1e6 / LEASES, oneByOneMicros);
+
+            assertThat(report.getChargedCount()).isEqualTo(LEASES);
+            assertThat(report.getFailedCount()).isZero();
+            assertThat(rerun.getChargedCount()).isZero();
+            assertThat(rerun.getSkippedCount()).isEqualTo(LEASES);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM rent_ledger_entries WHERE charge_period = ?", Long.class,
+                    LocalDate.of(2026, 11, 1))).isEqualTo(LEASES);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT SUM(outstanding_rent_cents) FROM owner_portfolio_summaries", Long.class))
+                    .isEqualTo((LEASES + ONE_BY_ONE_SAMPLE) * RENT_CENTS);
+            assertThat(batchSeconds * 1e6 / LEASES).isLessThan(oneByOneMicros);
+        }
+    }
+
+    private static void seed(ConfigurableApplicationContext context, JdbcTemplate jdbcTemplate) {
+        UserService userService = context.getBean(UserService.class);
+        PropertyService propertyService = context.getBean(PropertyService.class);
+        List<long[]> ownerUnits = new ArrayList<>(OWNERS);
+        for (int i = 0; i < OWNERS; i++) {
+            Long ownerId = userService.signup("charges|load-" + i).getId();
+            Long propertyId = propertyService.createProperty(ownerId,
+                    new CreatePropertyRequest("Load Block " + i, null, null)).getId();
+            Long unitId = propertyService.addUnit(ownerId, propertyId, new CreateUnitRequest("1")).getId();
+            ownerUnits.add(new long[]{ownerId, unitId});
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        Date startDate = Date.valueOf(LocalDate.of(2026, 1, 1));
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < LEASES; i++) {
+            long[] ownerUnit = ownerUnits.get(i % OWNERS);
+            rows.add(new Object[]{ownerUnit[1], ownerUnit[0], "Tenant " + i, RENT_CENTS, startDate, now, now});
+            if (rows.size() == BATCH_SIZE || i == LEASES - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO leases (unit_id, owner_id, tenant_name, monthly_rent_cents, "
+                        + "start_date, status, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?, ?, 0)",
+                        rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.update("INSERT INTO lease_balances (lease_id, owner_id, balance_cents, last_sequence, updated_at) "
+                + "SELECT id, owner_id, 0, 0, CURRENT_TIMESTAMP FROM leases");
+    }
+}
@@ -0,0 +1,211 @@
+package dev.ganeshpalankar.rentals_backend.ledger;
+
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntryType;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentLedgerService;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.StartLeaseRequest;
+import dev.ganeshpalankar.rentals_backend.properties.service.LeaseService;
+import dev.ganeshpalankar.rentals_backend.properties.service.PortfolioSummaryService;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "rentals.ledger.snapshot-interval=3"
+})
+@AutoConfigureMockMvc
+@DisplayName("Rent Ledger Integration Tests")
+class RentLedgerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Autowired
+    private RentLedgerService rentLedgerService;
+
+    @Autowired
+    private PortfolioSummaryService portfolioSummaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private Long leaseId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.signup("ledger|" + UUID.randomUUID());
+        Long propertyId = propertyService.createProperty(owner.getId(),
+                new CreatePropertyRequest("Ledger House", null, null)).getId();
+        Long unitId = propertyService.addUnit(owner.getId(), propertyId, new CreateUnitRequest("1")).getId();
+        leaseId = leaseService.startLease(owner.getId(), unitId,
+                new StartLeaseRequest("Tenant", 100_000L, LocalDate.of(2026, 1, 1))).getId();
+    }
+
+    @Test
+    @DisplayName("POST charges/payments - Should keep the running balance and outstanding rent up to date")
+    void post_ShouldUpdateBalanceAndOutstandingRent() throws Exception {
+        // When
+        mockMvc.perform(asOwner(post("/leases/{id}/ledger/charges", leaseId))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"amountCents\":100000,\"description\":\"Rent\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.sequence").value(1))
+                .andExpect(jsonPath("$.data.amountCents").value(100000));
+        mockMvc.perform(asOwner(post("/leases/{id}/ledger/payments", leaseId))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"amountCents\":40000}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.type").value("PAYMENT"))
+                .andExpect(jsonPath("$.data.amountCents").value(-40000));
+        mockMvc.perform(asOwner(post("/leases/{id}/ledger/payments", leaseId))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"amountCents\":-5}"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        mockMvc.perform(asOwner(get("/leases/{id}/ledger/balance", leaseId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balanceCents").value(60000));
+        mockMvc.perform(asOwner(get("/leases/{id}/ledger/balance", leaseId)).param("asOf", "2000-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balanceCents").value(0))
+                .andExpect(jsonPath("$.data.asOf").value("2000-01-01"));
+        mockMvc.perform(asOwner(get("/leases/{id}/ledger/balance", leaseId))
+                        .param("asOf", LocalDate.now(ZoneOffset.UTC).toString()))
+                .andExpect(jsonPath("$.data.balanceCents").value(60000));
+        assertThat(portfolioSummaryService.getSummary(owner.getId()).getOutstandingRentCents()).isEqualTo(60000);
+    }
+
+    @Test
+    @DisplayName("balanceBefore() - Should match summing the whole history at every point in time")
+    void balanceBefore_ShouldMatchFullHistorySum() throws Exception {
+        // Given
+        List<Instant> cutoffs = new ArrayList<>();
+        cutoffs.add(Instant.now());
+        for (int i = 1; i <= 10; i++) {
+            Thread.sleep(2);
+            LedgerEntryType type = i % 2 == 0 ? LedgerEntryType.PAYMENT : LedgerEntryType.CHARGE;
+            rentLedgerService.post(owner.getId(), leaseId, type, 1_000L * i, null);
+            Thread.sleep(2);
+            cutoffs.add(Instant.now());
+        }
+
+        // When / Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM lease_balance_snapshots WHERE lease_id = ?", Long.class, leaseId))
+                .isEqualTo(3);
+        for (Instant cutoff : cutoffs) {
+            Long expected = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(amount_cents), 0) FROM rent_ledger_entries WHERE lease_id = ? AND posted_at < ?",
+                    Long.class, leaseId, Timestamp.from(cutoff));
+            assertThat(rentLedgerService.balanceBefore(owner.getId(), leaseId, cutoff)).as("before %s", cutoff)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("GET entries - Should page through the ledger in posting order")
+    void listEntries_ShouldPageInSequenceOrder() throws Exception {
+        // Given
+        for (int i = 0; i < 9; i++) {
+            rentLedgerService.post(owner.getId(), leaseId, LedgerEntryType.CHARGE, 100L, null);
+        }
+
+        // When / Then
+        mockMvc.perform(asOwner(get("/leases/{id}/ledger/entries", leaseId)).param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(4))
+                .andExpect(jsonPath("$.data.items[0].sequence").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value("4"));
+        mockMvc.perform(asOwner(get("/leases/{id}/ledger/entries", leaseId)).param("size", "4").param("cursor", "8"))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].sequence").value(9))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+        mockMvc.perform(asOwner(get("/leases/{id}/ledger/entries", leaseId)).param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    @DisplayName("Ledger endpoints - Should hide other owners' leases")
+    void ledger_OfAnotherOwner_ShouldReturnNotFound() throws Exception {
+        // Given
+        User stranger = userService.signup("ledger|" + UUID.randomUUID());
+
+        // When / Then
+        mockMvc.perform(post("/leases/{id}/ledger/charges", leaseId)
+                        .with(jwt().jwt(jwt -> jwt.subject(stranger.getExternalId())))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"amountCents\":100}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/leases/{id}/ledger/balance", leaseId)
+                        .with(jwt().jwt(jwt -> jwt.subject(stranger.getExternalId()))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("post() - Should give concurrent entries consecutive sequence numbers")
+    void post_Concurrently_ShouldNotLoseEntries() throws Exception {
+        // Given
+        List<Future<?>> posts = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 40; i++) {
+                posts.add(executor.submit(() ->
+                        rentLedgerService.post(owner.getId(), leaseId, LedgerEntryType.CHARGE, 250L, null)));
+            }
+        }
+        for (Future<?> post : posts) {
+            post.get();
+        }
+
+        // Then
+        List<Long> sequences = jdbcTemplate.queryForList(
+                "SELECT sequence FROM rent_ledger_entries WHERE lease_id = ? ORDER BY sequence", Long.class, leaseId);
+        assertThat(sequences).hasSize(40).first().isEqualTo(1L);
+        assertThat(sequences.getLast()).isEqualTo(40L);
+        assertThat(rentLedgerService.getBalance(owner.getId(), leaseId, null).getBalanceCents()).isEqualTo(10_000L);
+        assertThat(portfolioSummaryService.getSummary(owner.getId()).getOutstandingRentCents()).isEqualTo(10_000L);
+    }
+
+    private MockHttpServletRequestBuilder asOwner(MockHttpServletRequestBuilder request) {
+        return request.with(jwt().jwt(jwt -> jwt.subject(owner.getExternalId())));
+    }
+}
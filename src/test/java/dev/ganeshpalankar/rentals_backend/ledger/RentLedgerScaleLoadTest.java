@@ -0,0 +1,190 @@
+package dev.ganeshpalankar.rentals_backend.ledger;
+
+import dev.ganeshpalankar.rentals_backend.RentalsBackendApplication;
+import dev.ganeshpalankar.rentals_backend.ledger.config.RentLedgerProperties;
+import dev.ganeshpalankar.rentals_backend.ledger.model.LedgerEntryType;
+import dev.ganeshpalankar.rentals_backend.ledger.service.RentLedgerService;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.StartLeaseRequest;
+import dev.ganeshpalankar.rentals_backend.properties.service.LeaseService;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a file-backed H2 database with a large rent ledger (10M entries by default, spread over
+ * {@value #LEASES} leases) and compares balance queries against summing each lease's history.
+ * The current balance is one row and a past balance is one snapshot plus a bounded tail, so neither should
+ * grow with the ledger, while the naive sum reads every earlier entry of the lease.
+ * Run with {@code ./mvnw -Pload-test test -Dtest=RentLedgerScaleLoadTest}; pass {@code -Dledger.entries=N}
+ * to change the ledger size.
+ */
+@Tag("load")
+@DisplayName("Rent Ledger Scale Load Test")
+class RentLedgerScaleLoadTest {
+
+    private static final int LEASES = 100;
+    private static final long ENTRIES = Long.getLong("ledger.entries", 10_000_000L);
+    private static final int BATCH_SIZE = 10_000;
+    private static final Instant HISTORY_START = Instant.parse("2010-01-01T00:00:00Z");
+    private static final int QUERIES = 2_000;
+    private static final int NAIVE_QUERIES = 50;
+
+    @TempDir
+    Path databaseDirectory;
+
+    @Test
+    @DisplayName("Balance queries stay flat as the ledger grows; summing the history does not")
+    void balanceQueries_ShouldNotScanHistory() throws Exception {
+        String url = "jdbc:h2:file:" + databaseDirectory.resolve("ledger")
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;CACHE_SIZE=262144";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RentalsBackendApplication.class)
+                .profiles("prod")
+                .properties(
+                        "server.port=0",
+                        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+                        "logging.level.root=WARN")
+                .run("--spring.datasource.url=" + url)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            RentLedgerService rentLedgerService = context.getBean(RentLedgerService.class);
+            int snapshotInterval = context.getBean(RentLedgerProperties.class).getSnapshotInterval();
+
+            User owner = context.getBean(UserService.class).signup("ledger|scale");
+            List<Long> leaseIds = createLeases(context, owner.getId());
+            long entriesPerLease = ENTRIES / LEASES;
+
+            long seedStart = System.nanoTime();
+            for (Long leaseId : leaseIds) {
+                seed(jdbcTemplate, owner.getId(), leaseId, entriesPerLease, snapshotInterval);
+            }
+            Duration seeding = Duration.ofNanos(System.nanoTime() - seedStart);
+            // Entries posted through the service continue the seeded ledgers
+            for (Long leaseId : leaseIds) {
+                rentLedgerService.post(owner.getId(), leaseId, LedgerEntryType.CHARGE, 100_000L, "Rent");
+            }
+
+            Random random = new Random(42);
+            Duration historyLength = Duration.ofMinutes(entriesPerLease);
+            // Warm up both paths before timing them
+            for (int i = 0; i < QUERIES; i++) {
+                Long leaseId = leaseIds.get(random.nextInt(LEASES));
+                rentLedgerService.getBalance(owner.getId(), leaseId, null);
+                rentLedgerService.balanceBefore(owner.getId(), leaseId, randomCutoff(random, historyLength));
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                rentLedgerService.getBalance(owner.getId(), leaseIds.get(random.nextInt(LEASES)), null);
+            }
+            double currentMicros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+
+            start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                rentLedgerService.balanceBefore(owner.getId(), leaseIds.get(random.nextInt(LEASES)),
+                        randomCutoff(random, historyLength));
+            }
+            double asOfMicros = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+
+            long naiveNanos = 0;
+            for (int i = 0; i < NAIVE_QUERIES; i++) {
+                Long leaseId = leaseIds.get(random.nextInt(LEASES));
+                Instant cutoff = randomCutoff(random, historyLength);
+                long naiveStart = System.nanoTime();
+                Long summed = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(SUM(amount_cents), 0) FROM rent_ledger_entries WHERE lease_id = ? AND posted_at < ?",
+                        Long.class, leaseId, Timestamp.from(cutoff));
+                naiveNanos += System.nanoTime() - naiveStart;
+                assertThat(rentLedgerService.balanceBefore(owner.getId(), leaseId, cutoff)).isEqualTo(summed);
+            }
+            double naiveMicros = naiveNanos / 1_000.0 / NAIVE_QUERIES;
+
+            System.out.printf("%,d entries over %d leases, seeded in %ds%n", ENTRIES, LEASES, seeding.toSeconds());
+            System.out.printf("%24s %24s %24s%n", "current balance (us)", "as-of balance (us)", "summed history (us)");
+            System.out.printf("%24.1f %24.1f %24.1f%n", currentMicros, asOfMicros, naiveMicros);
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rent_ledger_entries", Long.class))
+                    .isEqualTo(entriesPerLease * LEASES + LEASES);
+            assertThat(asOfMicros).isLessThan(naiveMicros);
+        }
+    }
+
+    private static List<Long> createLeases(ConfigurableApplicationContext context, Long ownerId) {
+        PropertyService propertyService = context.getBean(PropertyService.class);
+        LeaseService leaseService = context.getBean(LeaseService.class);
+        Long propertyId = propertyService.createProperty(ownerId,
+                new CreatePropertyRequest("Scale Towers", null, null)).getId();
+        List<Long> leaseIds = new ArrayList<>(LEASES);
+        for (int i = 0; i < LEASES; i++) {
+            Long unitId = propertyService.addUnit(ownerId, propertyId, new CreateUnitRequest("U" + i)).getId();
+            leaseIds.add(leaseService.startLease(ownerId, unitId,
+                    new StartLeaseRequest("Tenant " + i, 100_000L, LocalDate.of(2010, 1, 1))).getId());
+        }
+        return leaseIds;
+    }
+
+    /**
+     * Write a lease's history directly, one entry a minute, with the snapshots and running balance the service
+     * would have written.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate, Long ownerId, Long leaseId, long entries,
+                             int snapshotInterval) {
+        long balance = 0;
+        List<Object[]> entryRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> snapshotRows = new ArrayList<>();
+        Timestamp postedAt = null;
+        for (long sequence = 1; sequence <= entries; sequence++) {
+            boolean charge = sequence % 2 == 1;
+            long amount = charge ? 100_000 : -(95_000 + (sequence % 7) * 1_000);
+            balance += amount;
+            postedAt = Timestamp.from(HISTORY_START.plus(Duration.ofMinutes(sequence)));
+            entryRows.add(new Object[]{leaseId, ownerId, sequence,
+                    charge ? LedgerEntryType.CHARGE.name() : LedgerEntryType.PAYMENT.name(), amount, postedAt});
+            if (sequence % snapshotInterval == 0) {
+                snapshotRows.add(new Object[]{leaseId, sequence, balance, postedAt});
+            }
+            if (entryRows.size() == BATCH_SIZE) {
+                insertEntries(jdbcTemplate, entryRows);
+            }
+        }
+        insertEntries(jdbcTemplate, entryRows);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO lease_balance_snapshots (lease_id, sequence, balance_cents, posted_at) VALUES (?, ?, ?, ?)",
+                snapshotRows);
+        jdbcTemplate.update("UPDATE lease_balances SET balance_cents = ?, last_sequence = ?, last_posted_at = ? "
+                + "WHERE lease_id = ?", balance, entries, postedAt, leaseId);
+        jdbcTemplate.update("UPDATE owner_portfolio_summaries SET outstanding_rent_cents = outstanding_rent_cents + ? "
+                + "WHERE owner_id = ?", balance, ownerId);
+    }
+
+    private static void insertEntries(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO rent_ledger_entries (lease_id, owner_id, sequence, entry_type, "
+                + "amount_cents, posted_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private static Instant randomCutoff(Random random, Duration historyLength) {
+        return HISTORY_START.plusSeconds((long) (random.nextDouble() * historyLength.toSeconds()));
+    }
+}
@@ -0,0 +1,44 @@
+package dev.ganeshpalankar.rentals_backend.ledger.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RentLedgerProperties Unit Tests")
+class RentLedgerPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfiguration.class);
+
+    @Test
+    @DisplayName("Should bind the defaults")
+    void defaults_ShouldBeValid() {
+        contextRunner.run(context -> assertThat(context.getBean(RentLedgerProperties.class).getSnapshotInterval())
+                .isEqualTo(100));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "rentals.ledger.snapshot-interval=0",
+            "rentals.ledger.snapshot-interval=-1",
+            "rentals.ledger.default-page-size=0",
+            "rentals.ledger.max-page-size=0"
+    })
+    @DisplayName("Should fail to start with a value that is not positive")
+    void nonPositiveValue_ShouldFailStartup(String property) {
+        contextRunner.withPropertyValues(property).run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause().isInstanceOf(BindValidationException.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(RentLedgerProperties.class)
+    static class PropertiesConfiguration {
+    }
+}
@@ -0,0 +1,221 @@
+package dev.ganeshpalankar.rentals_backend.maintenance;
+
+import dev.ganeshpalankar.rentals_backend.maintenance.dto.SubmitMaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequest;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenanceRequestStatus;
+import dev.ganeshpalankar.rentals_backend.maintenance.service.*;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "rentals.maintenance.dispatch.workers-enabled=false",
+        "rentals.maintenance.dispatch.batch-size=5",
+        "rentals.maintenance.dispatch.max-attempts=2",
+        "rentals.maintenance.dispatch.retry-backoff=0s"
+})
+@AutoConfigureMockMvc
+@DisplayName("Maintenance Dispatch Integration Tests")
+class MaintenanceDispatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private MaintenanceRequestService maintenanceRequestService;
+
+    @Autowired
+    private MaintenanceDispatchQueue dispatchQueue;
+
+    @Autowired
+    private MaintenanceDispatcher dispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ContractorDispatcher contractorDispatcher;
+
+    private User owner;
+    private Long unitId;
+
+    @BeforeEach
+    void setUp() {
+        // Each test starts from an empty queue
+        jdbcTemplate.update("UPDATE maintenance_dispatch_jobs SET status = 'DONE' WHERE status = 'PENDING'");
+        owner = userService.signup("maintenance|" + UUID.randomUUID());
+        Long propertyId = propertyService.createProperty(owner.getId(),
+                new CreatePropertyRequest("Fixer Upper", null, null)).getId();
+        unitId = propertyService.addUnit(owner.getId(), propertyId, new CreateUnitRequest("1A")).getId();
+    }
+
+    @Test
+    @DisplayName("POST /units/{id}/maintenance-requests - Should queue the request with its SLA deadline")
+    void submit_ShouldCreateOpenRequest() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/units/{id}/maintenance-requests", unitId)
+                        .with(jwt().jwt(jwt -> jwt.subject(owner.getExternalId())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Leaking tap\",\"priority\":\"high\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.status").value("OPEN"))
+                .andExpect(jsonPath("$.data.priority").value("HIGH"))
+                .andExpect(jsonPath("$.data.slaDeadline").exists());
+        mockMvc.perform(post("/units/{id}/maintenance-requests", unitId)
+                        .with(jwt().jwt(jwt -> jwt.subject(owner.getExternalId())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Leaking tap\",\"priority\":\"whenever\"}"))
+                .andExpect(status().isBadRequest());
+        User stranger = userService.signup("maintenance|" + UUID.randomUUID());
+        mockMvc.perform(post("/units/{id}/maintenance-requests", unitId)
+                        .with(jwt().jwt(jwt -> jwt.subject(stranger.getExternalId())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Leaking tap\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isNotFound());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM maintenance_dispatch_jobs WHERE status = 'PENDING'", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("claim() - Should serve the earliest SLA deadline first")
+    void claim_ShouldOrderByDeadline() {
+        // Given
+        Long low = submit(MaintenancePriority.LOW).getId();
+        Long emergency = submit(MaintenancePriority.EMERGENCY).getId();
+        Long normal = submit(MaintenancePriority.NORMAL).getId();
+        Long high = submit(MaintenancePriority.HIGH).getId();
+        // A low priority request about to breach its SLA goes ahead of everything else
+        Long overdue = submit(MaintenancePriority.LOW).getId();
+        jdbcTemplate.update("UPDATE maintenance_dispatch_jobs SET sla_deadline = CURRENT_TIMESTAMP WHERE request_id = ?",
+                overdue);
+
+        // When
+        List<DispatchJob> jobs = dispatchQueue.claim("worker-1", 10);
+
+        // Then
+        assertThat(jobs).extracting(DispatchJob::requestId).containsExactly(overdue, emergency, high, normal, low);
+        assertThat(jobs).extracting(DispatchJob::attempt).containsOnly(1);
+        assertThat(dispatchQueue.claim("worker-2", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("claim() - Should give concurrent workers disjoint batches")
+    void claim_Concurrently_ShouldNotHandOutAJobTwice() throws Exception {
+        // Given
+        for (int i = 0; i < 60; i++) {
+            submit(MaintenancePriority.values()[i % 4]);
+        }
+        List<Future<List<Long>>> workers = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(6)) {
+            for (int w = 0; w < 6; w++) {
+                String workerId = "worker-" + w;
+                workers.add(executor.submit(() -> {
+                    List<Long> claimed = new ArrayList<>();
+                    List<DispatchJob> batch;
+                    while (!(batch = dispatchQueue.claim(workerId, 4)).isEmpty()) {
+                        batch.forEach(job -> claimed.add(job.id()));
+                    }
+                    return claimed;
+                }));
+            }
+        }
+
+        // Then
+        List<Long> claimed = new ArrayList<>();
+        for (Future<List<Long>> worker : workers) {
+            claimed.addAll(worker.get());
+        }
+        assertThat(claimed).hasSize(60).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("complete() - Should only let the latest claim finish a job after its visibility timeout")
+    void complete_AfterClaimExpired_ShouldBeLeftToTheNewClaim() {
+        // Given
+        MaintenanceRequest request = submit(MaintenancePriority.NORMAL);
+        DispatchJob first = dispatchQueue.claim("worker-1", 1).getFirst();
+        jdbcTemplate.update("UPDATE maintenance_dispatch_jobs SET visible_at = CURRENT_TIMESTAMP - INTERVAL '1' SECOND "
+                + "WHERE id = ?", first.id());
+        DispatchJob second = dispatchQueue.claim("worker-2", 1).getFirst();
+
+        // When / Then
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(second.attempt()).isEqualTo(2);
+        assertThat(dispatchQueue.complete(first)).isFalse();
+        assertThat(dispatchQueue.complete(second)).isTrue();
+        assertThat(maintenanceRequestService.getRequest(owner.getId(), request.getId()).getStatus())
+                .isEqualTo(MaintenanceRequestStatus.DISPATCHED);
+    }
+
+    @Test
+    @DisplayName("dispatchBatch() - Should dispatch due jobs, retry failures and give up after maxAttempts")
+    void dispatchBatch_ShouldDispatchAndRetry() throws Exception {
+        // Given
+        MaintenanceRequest ok = submit(MaintenancePriority.HIGH);
+        MaintenanceRequest broken = submit(MaintenancePriority.LOW);
+        doThrow(new IllegalStateException("contractor API down"))
+                .when(contractorDispatcher).dispatch(argThat(job -> job != null && job.requestId() == broken.getId()));
+
+        // When
+        assertThat(dispatcher.dispatchBatch("worker-1")).isEqualTo(2);
+        assertThat(dispatcher.dispatchBatch("worker-1")).isEqualTo(1);
+        assertThat(dispatcher.dispatchBatch("worker-1")).isZero();
+
+        // Then
+        verify(contractorDispatcher, times(3)).dispatch(any());
+        assertThat(maintenanceRequestService.getRequest(owner.getId(), ok.getId()).getDispatchedAt()).isNotNull();
+        mockMvc.perform(get("/maintenance-requests/{id}", broken.getId())
+                        .with(jwt().jwt(jwt -> jwt.subject(owner.getExternalId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("DISPATCH_FAILED"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_error FROM maintenance_dispatch_jobs WHERE request_id = ?", String.class, broken.getId()))
+                .contains("contractor API down");
+    }
+
+    private MaintenanceRequest submit(MaintenancePriority priority) {
+        return maintenanceRequestService.submit(owner.getId(), unitId,
+                new SubmitMaintenanceRequest("Broken " + priority, null, priority.name()));
+    }
+}
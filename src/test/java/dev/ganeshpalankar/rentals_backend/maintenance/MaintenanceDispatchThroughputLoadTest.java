@@ -0,0 +1,147 @@
+package dev.ganeshpalankar.rentals_backend.maintenance;
+
+import dev.ganeshpalankar.rentals_backend.RentalsBackendApplication;
+import dev.ganeshpalankar.rentals_backend.maintenance.config.MaintenanceProperties;
+import dev.ganeshpalankar.rentals_backend.maintenance.model.MaintenancePriority;
+import dev.ganeshpalankar.rentals_backend.maintenance.service.MaintenanceDispatcher;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreatePropertyRequest;
+import dev.ganeshpalankar.rentals_backend.properties.dto.CreateUnitRequest;
+import dev.ganeshpalankar.rentals_backend.properties.service.PropertyService;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drains the maintenance dispatch queue, in a file-backed H2 database, with an increasing number of concurrent
+ * workers, and with one-job claims for comparison. Every job must be dispatched exactly once (one claim each),
+ * and batched claims must beat claiming one job at a time.
+ * Run with {@code ./mvnw -Pload-test test -Dtest=MaintenanceDispatchThroughputLoadTest}; pass
+ * {@code -Dmaintenance.jobs=N} to change the number of jobs per round.
+ */
+@Tag("load")
+@DisplayName("Maintenance Dispatch Throughput Load Test")
+class MaintenanceDispatchThroughputLoadTest {
+
+    private static final int JOBS = Integer.getInteger("maintenance.jobs", 5_000);
+    private static final int BATCH_SIZE = 5_000;
+
+    @TempDir
+    Path databaseDirectory;
+
+    @Test
+    @DisplayName("Workers drain the queue once per job, faster with batched claims")
+    void workers_ShouldDrainQueueExactlyOnce() throws Exception {
+        String url = "jdbc:h2:file:" + databaseDirectory.resolve("maintenance")
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RentalsBackendApplication.class)
+                .profiles("prod")
+                .properties(
+                        "server.port=0",
+                        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+                        "logging.level.root=WARN")
+                // Passed as arguments so they override application.yaml
+                .run("--spring.datasource.url=" + url, "--rentals.maintenance.dispatch.workers-enabled=false")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            MaintenanceDispatcher dispatcher = context.getBean(MaintenanceDispatcher.class);
+            MaintenanceProperties.Dispatch dispatch = context.getBean(MaintenanceProperties.class).getDispatch();
+
+            Long ownerId = context.getBean(UserService.class).signup("maintenance|load").getId();
+            PropertyService propertyService = context.getBean(PropertyService.class);
+            Long propertyId = propertyService.createProperty(ownerId,
+                    new CreatePropertyRequest("Load Court", null, null)).getId();
+            Long unitId = propertyService.addUnit(ownerId, propertyId, new CreateUnitRequest("1")).getId();
+
+            int[][] rounds = {{1, 1}, {1, 20}, {4, 1}, {4, 20}, {16, 20}};
+            double[] jobsPerSecond = new double[rounds.length];
+            System.out.printf("%,d jobs per round%n%10s %12s %16s%n", JOBS, "workers", "batch size", "jobs/s");
+            for (int r = 0; r < rounds.length; r++) {
+                int workers = rounds[r][0];
+                dispatch.setBatchSize(rounds[r][1]);
+                seed(jdbcTemplate, ownerId, unitId, r);
+
+                long start = System.nanoTime();
+                drain(dispatcher, workers);
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                jobsPerSecond[r] = JOBS / (elapsed.toNanos() / 1e9);
+                System.out.printf("%10d %12d %16.0f%n", workers, rounds[r][1], jobsPerSecond[r]);
+
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM maintenance_dispatch_jobs WHERE status = 'PENDING'", Long.class)).isZero();
+                // One claim per job: no job was handed to two workers
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT SUM(attempts) FROM maintenance_dispatch_jobs", Long.class))
+                        .isEqualTo((long) JOBS * (r + 1));
+            }
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM maintenance_requests WHERE status = 'DISPATCHED'", Long.class))
+                    .isEqualTo((long) JOBS * rounds.length);
+            assertThat(jobsPerSecond[1]).isGreaterThan(jobsPerSecond[0]);
+            assertThat(jobsPerSecond[3]).isGreaterThan(jobsPerSecond[2]);
+        }
+    }
+
+    /**
+     * Run {@code workers} threads claiming batches until the queue is empty.
+     */
+    private static void drain(MaintenanceDispatcher dispatcher, int workers) throws Exception {
+        List<Future<?>> running = new ArrayList<>(workers);
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            for (int w = 0; w < workers; w++) {
+                String workerId = "load-" + w;
+                running.add(executor.submit(() -> {
+                    while (dispatcher.dispatchBatch(workerId) > 0) {
+                        // Keep claiming until nothing is due
+                    }
+                }));
+            }
+        }
+        for (Future<?> worker : running) {
+            worker.get();
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, Long ownerId, Long unitId, int round) {
+        Random random = new Random(round);
+        Instant now = Instant.now();
+        Timestamp createdAt = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < JOBS; i++) {
+            MaintenancePriority priority = MaintenancePriority.values()[random.nextInt(4)];
+            Timestamp deadline = Timestamp.from(now.plusSeconds(random.nextInt(7 * 24 * 3600)));
+            rows.add(new Object[]{unitId, ownerId, "Job " + round + "-" + i, priority.name(), deadline,
+                    createdAt, createdAt});
+            if (rows.size() == BATCH_SIZE || i == JOBS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO maintenance_requests (unit_id, owner_id, title, priority, "
+                        + "status, sla_deadline, created_at, updated_at, version) VALUES (?, ?, ?, ?, 'OPEN', ?, ?, ?, 0)",
+                        rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.update("""
+                INSERT INTO maintenance_dispatch_jobs (request_id, priority, sla_deadline, status, attempts, visible_at,
+                                                       created_at, updated_at)
+                SELECT r.id,
+                       CASE r.priority WHEN 'EMERGENCY' THEN 3 WHEN 'HIGH' THEN 2 WHEN 'NORMAL' THEN 1 ELSE 0 END,
+                       r.sla_deadline, 'PENDING', 0, r.created_at, r.created_at, r.created_at
+                FROM maintenance_requests r
+                WHERE NOT EXISTS (SELECT 1 FROM maintenance_dispatch_jobs j WHERE j.request_id = r.id)""");
+    }
+}
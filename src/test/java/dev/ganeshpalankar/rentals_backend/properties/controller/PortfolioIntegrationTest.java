@@ -0,0 +1,211 @@
+package dev.ganeshpalankar.rentals_backend.properties.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
+@AutoConfigureMockMvc
+@DisplayName("Portfolio Integration Tests")
+class PortfolioIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.signup("landlord|" + UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("GET /portfolio/summary - Should return zeros before the owner adds anything")
+    void getSummary_WithoutProperties_ShouldReturnZeros() throws Exception {
+        // When / Then
+        mockMvc.perform(as(owner, get("/portfolio/summary")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.propertyCount").value(0))
+                .andExpect(jsonPath("$.data.unitCount").value(0))
+                .andExpect(jsonPath("$.data.activeLeaseCount").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /portfolio/summary - Should follow properties, units and leases as they change")
+    void getSummary_AfterWrites_ShouldReflectEveryChange() throws Exception {
+        // Given
+        long propertyId = createProperty("Maple Court");
+        createProperty("Oak House");
+        long firstUnit = addUnit(propertyId, "1A");
+        long secondUnit = addUnit(propertyId, "1B");
+        addUnit(propertyId, "1C");
+        long firstLease = startLease(firstUnit).andExpect(status().isCreated()).andReturn().getResponse()
+                .getContentAsString().transform(this::dataId);
+        startLease(secondUnit).andExpect(status().isCreated());
+        mockMvc.perform(as(owner, post("/leases/{id}/end", firstLease)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("ENDED"));
+
+        // When / Then
+        mockMvc.perform(as(owner, get("/portfolio/summary")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.propertyCount").value(2))
+                .andExpect(jsonPath("$.data.unitCount").value(3))
+                .andExpect(jsonPath("$.data.occupiedUnitCount").value(1))
+                .andExpect(jsonPath("$.data.vacantUnitCount").value(2))
+                .andExpect(jsonPath("$.data.activeLeaseCount").value(1))
+                .andExpect(jsonPath("$.data.outstandingRentCents").value(0));
+        assertSummaryMatchesLiveCounts();
+    }
+
+    @Test
+    @DisplayName("POST /units/{id}/leases - Should reject a second lease on an occupied unit")
+    void startLease_OnOccupiedUnit_ShouldReturnConflict() throws Exception {
+        // Given
+        long unitId = addUnit(createProperty("Birch Row"), "2A");
+        startLease(unitId).andExpect(status().isCreated());
+
+        // When / Then
+        startLease(unitId)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error.code").value("UNIT_NOT_VACANT"));
+        mockMvc.perform(as(owner, post("/properties/{id}/units", createProperty("Elm Yard")))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"label\":\"\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /units/{id}/leases - Should let exactly one of many concurrent leases through")
+    void startLease_Concurrently_ShouldKeepOneActiveLease() throws Exception {
+        // Given
+        long unitId = addUnit(createProperty("Cedar Lofts"), "3A");
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> startLease(unitId).andReturn().getResponse().getStatus()));
+            }
+        }
+
+        // Then
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get());
+        }
+        assertThat(statuses).containsOnly(201, 409).containsOnlyOnce(201);
+        assertSummaryMatchesLiveCounts();
+    }
+
+    @Test
+    @DisplayName("POST /properties/{id}/units - Should not let another owner add units")
+    void addUnit_ToAnotherOwnersProperty_ShouldReturnNotFound() throws Exception {
+        // Given
+        long propertyId = createProperty("Willow Park");
+        User stranger = userService.signup("landlord|" + UUID.randomUUID());
+
+        // When / Then
+        mockMvc.perform(as(stranger, post("/properties/{id}/units", propertyId))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"label\":\"9Z\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(as(owner, post("/properties/{id}/units", propertyId))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"label\":\"9Z\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(as(owner, post("/properties/{id}/units", propertyId))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"label\":\"9Z\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error.code").value("UNIT_LABEL_TAKEN"));
+        assertSummaryMatchesLiveCounts();
+    }
+
+    private long createProperty(String name) throws Exception {
+        String body = mockMvc.perform(as(owner, post("/properties"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", name, "city", "Pune"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return dataId(body);
+    }
+
+    private long addUnit(long propertyId, String label) throws Exception {
+        String body = mockMvc.perform(as(owner, post("/properties/{id}/units", propertyId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("label", label))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.status").value("VACANT"))
+                .andReturn().getResponse().getContentAsString();
+        return dataId(body);
+    }
+
+    private ResultActions startLease(long unitId) throws Exception {
+        return mockMvc.perform(as(owner, post("/units/{id}/leases", unitId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "tenantName", "Tenant of " + unitId,
+                        "monthlyRentCents", 125_000,
+                        "startDate", "2026-01-01"))));
+    }
+
+    private void assertSummaryMatchesLiveCounts() {
+        Map<String, Object> live = jdbcTemplate.queryForMap("""
+                SELECT (SELECT COUNT(*) FROM properties WHERE owner_id = ?) AS property_count,
+                       (SELECT COUNT(*) FROM units WHERE owner_id = ?) AS unit_count,
+                       (SELECT COUNT(*) FROM units WHERE owner_id = ? AND status = 'OCCUPIED') AS occupied_unit_count,
+                       (SELECT COUNT(*) FROM leases WHERE owner_id = ? AND status = 'ACTIVE') AS active_lease_count""",
+                owner.getId(), owner.getId(), owner.getId(), owner.getId());
+        Map<String, Object> summary = jdbcTemplate.queryForMap("""
+                SELECT property_count, unit_count, occupied_unit_count, active_lease_count
+                FROM owner_portfolio_summaries WHERE owner_id = ?""", owner.getId());
+        live.forEach((column, count) ->
+                assertThat(((Number) summary.get(column)).longValue()).as(column).isEqualTo(((Number) count).longValue()));
+    }
+
+    private long dataId(String body) {
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            return json.path("data").path("id").asLong();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static MockHttpServletRequestBuilder as(User user, MockHttpServletRequestBuilder request) {
+        return request.with(jwt().jwt(jwt -> jwt.subject(user.getExternalId())));
+    }
+}
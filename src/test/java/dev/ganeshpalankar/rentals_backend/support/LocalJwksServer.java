@@ -0,0 +1,100 @@
+package dev.ganeshpalankar.rentals_backend.support;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for the identity provider: serves a JWK set over HTTP and mints tokens
+ * signed with the matching private key, so the JWT validation path can be tested offline.
+ */
+public final class LocalJwksServer implements AutoCloseable {
+
+    private static final LocalJwksServer SHARED = new LocalJwksServer();
+
+    private final RSAKey signingKey;
+    private final HttpServer server;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+
+    public LocalJwksServer() {
+        try {
+            this.signingKey = new RSAKeyGenerator(2048).keyID("local-test-key").generate();
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (JOSEException ex) {
+            throw new IllegalStateException(ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            jwksRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * A server shared by all tests in the JVM, so Spring contexts that use it can be cached.
+     */
+    public static LocalJwksServer shared() {
+        return SHARED;
+    }
+
+    public String jwkSetUri() {
+        return "http://localhost:" + server.getAddress().getPort() + "/.well-known/jwks.json";
+    }
+
+    public int jwksRequests() {
+        return jwksRequests.get();
+    }
+
+    public String mintToken(String subject) {
+        return mintToken(subject, Duration.ofHours(1));
+    }
+
+    public String mintToken(String subject, Duration lifetime) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(subject)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(lifetime)))
+                .claim("scope", "openid")
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+                claims);
+        try {
+            jwt.sign(new RSASSASigner(signingKey));
+        } catch (JOSEException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,152 @@
+package dev.ganeshpalankar.rentals_backend.users.controller;
+
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
+@AutoConfigureMockMvc
+@DisplayName("User Conditional GET Integration Tests")
+class UserConditionalGetIntegrationTest {
+
+    private static final String READER = "etag|reader";
+    private static final String OTHER = "etag|other";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User reader;
+
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        reader = findOrSignup(READER);
+        other = findOrSignup(OTHER);
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - Should return the user with a strong ETag and Cache-Control")
+    void getUserById_ShouldReturnUserWithETag() throws Exception {
+        // When / Then
+        String eTag = mockMvc.perform(asReader(get("/users/{id}", reader.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.externalId").value(READER))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - Should answer 304 without a body while the ETag still matches")
+    void getUserById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        // Given
+        String eTag = currentETag();
+
+        // When / Then
+        mockMvc.perform(asReader(get("/users/{id}", reader.getId())).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - Should return the new representation once the user has changed")
+    void getUserById_AfterUpdate_ShouldReturnNewETag() throws Exception {
+        // Given
+        String eTag = currentETag();
+        jdbcTemplate.update("UPDATE users SET updated_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().plusSeconds(1)), reader.getId());
+
+        // When
+        String newETag = mockMvc.perform(asReader(get("/users/{id}", reader.getId()))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(reader.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - Should return 404 for an unknown id")
+    void getUserById_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        // When / Then
+        mockMvc.perform(asReader(get("/users/{id}", Long.MAX_VALUE)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("RESOURCE_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - Should return 404 for another user's id, even with a matching ETag")
+    void getUserById_ForAnotherUser_ShouldReturnNotFound() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/users/{id}", other.getId()).with(jwt().jwt(jwt -> jwt.subject(OTHER))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(asReader(get("/users/{id}", other.getId())))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("RESOURCE_NOT_FOUND"));
+        mockMvc.perform(asReader(get("/users/{id}", other.getId())).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - Should return another user's record with the users:read scope")
+    void getUserById_ForAnotherUserWithReadScope_ShouldReturnUser() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/users/{id}", other.getId()).with(jwt()
+                        .jwt(jwt -> jwt.subject(READER))
+                        .authorities(new SimpleGrantedAuthority("SCOPE_users:read"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.externalId").value(OTHER));
+    }
+
+    private User findOrSignup(String externalId) {
+        return userService.existsByExternalId(externalId)
+                ? userService.findByExternalId(externalId)
+                : userService.signup(externalId);
+    }
+
+    private String currentETag() throws Exception {
+        return mockMvc.perform(asReader(get("/users/{id}", reader.getId())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static MockHttpServletRequestBuilder asReader(MockHttpServletRequestBuilder request) {
+        return request.with(jwt().jwt(jwt -> jwt.subject(READER)));
+    }
+}
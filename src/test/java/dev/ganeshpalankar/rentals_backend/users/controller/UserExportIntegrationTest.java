@@ -0,0 +1,148 @@
+package dev.ganeshpalankar.rentals_backend.users.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ganeshpalankar.rentals_backend.users.service.UserProvisioningService;
+import dev.ganeshpalankar.rentals_backend.users.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
+@AutoConfigureMockMvc
+@DisplayName("User Export Integration Tests")
+class UserExportIntegrationTest {
+
+    private static final String ADMIN = "export|admin";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (!userService.existsByExternalId(ADMIN)) {
+            userService.signup(ADMIN);
+            userProvisioningService.provision(new StringReader(IntStream.range(0, 2500)
+                    .mapToObj(i -> "export|user-" + i)
+                    .collect(Collectors.joining("\n"))));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /users/export - Should stream every user as one JSON object per line in id order")
+    void exportUsers_ShouldStreamNdjson() throws Exception {
+        // When
+        MvcResult result = perform(get("/users/export"));
+
+        // Then
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<JsonNode> rows = parse(body);
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(body).startsWith("{").endsWith("}\n").doesNotContain("\n ");
+        assertThat(rows.size()).isGreaterThanOrEqualTo(2501);
+        assertThat(rows).extracting(row -> row.get("id").asLong()).isSorted();
+        assertThat(rows.getFirst().has("externalId")).isTrue();
+        assertThat(rows.getFirst().has("createdAt")).isTrue();
+        assertThat(rows.getFirst().has("updatedAt")).isTrue();
+    }
+
+    @Test
+    @DisplayName("GET /users/export?afterId= - Should resume after the given id")
+    void exportUsers_WithAfterId_ShouldResume() throws Exception {
+        // Given
+        List<JsonNode> all = parse(perform(get("/users/export")).getResponse().getContentAsString(StandardCharsets.UTF_8));
+        long resumeAfter = all.get(999).get("id").asLong();
+
+        // When
+        List<JsonNode> rest = parse(perform(get("/users/export").param("afterId", Long.toString(resumeAfter)))
+                .getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(rest).hasSize(all.size() - 1000);
+        assertThat(rest.getFirst()).isEqualTo(all.get(1000));
+    }
+
+    @Test
+    @DisplayName("GET /users/export - Should gzip the stream when the client accepts it")
+    void exportUsers_WithAcceptEncodingGzip_ShouldCompress() throws Exception {
+        // When
+        MvcResult result = perform(get("/users/export").header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"));
+
+        // Then
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            List<JsonNode> rows = parse(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            assertThat(rows.size()).isGreaterThanOrEqualTo(2501);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /users/export - Should not gzip when the client refuses it")
+    void exportUsers_WithGzipRefused_ShouldNotCompress() throws Exception {
+        MvcResult result = perform(get("/users/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"));
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("GET /users/export - Should require the users:read scope")
+    void exportUsers_WithoutScope_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/users/export").with(jwt().jwt(token -> token.subject(ADMIN))))
+                .andExpect(status().isForbidden());
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request.with(jwt()
+                        .jwt(token -> token.subject(ADMIN))
+                        .authorities(new SimpleGrantedAuthority("SCOPE_users:read"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+    }
+
+    private List<JsonNode> parse(String ndjson) throws Exception {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        return rows;
+    }
+}
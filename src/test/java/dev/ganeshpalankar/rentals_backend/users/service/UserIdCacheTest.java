@@ -0,0 +1,101 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import dev.ganeshpalankar.rentals_backend.users.config.UserIdCacheProperties;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserIdCache Unit Tests")
+class UserIdCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserIdCache userIdCache;
+
+    private final String externalId = "auth0|123456789";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userIdCache = new UserIdCache(userRepository, new UserIdCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("getUserId() - Should query the repository only once for a registered user")
+    void getUserId_WhenRegistered_ShouldCacheUserId() {
+        // Given
+        User user = new User();
+        user.setId(1L);
+        user.setExternalId(externalId);
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.of(user));
+
+        // When
+        Optional<Long> first = userIdCache.getUserId(externalId);
+        Optional<Long> second = userIdCache.getUserId(externalId);
+
+        // Then
+        assertThat(first).contains(1L);
+        assertThat(second).contains(1L);
+        verify(userRepository, times(1)).findByExternalId(externalId);
+    }
+
+    @Test
+    @DisplayName("getUserId() - Should cache unregistered users as empty entries")
+    void getUserId_WhenUnregistered_ShouldCacheNegativeResult() {
+        // Given
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.empty());
+
+        // When
+        Optional<Long> first = userIdCache.getUserId(externalId);
+        Optional<Long> second = userIdCache.getUserId(externalId);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(userRepository, times(1)).findByExternalId(externalId);
+    }
+
+    @Test
+    @DisplayName("put() - Should replace a negative entry after signup")
+    void put_AfterNegativeEntry_ShouldReturnNewUserId() {
+        // Given
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.empty());
+        userIdCache.getUserId(externalId);
+
+        // When
+        userIdCache.put(externalId, 42L);
+
+        // Then
+        assertThat(userIdCache.getUserId(externalId)).contains(42L);
+        verify(userRepository, times(1)).findByExternalId(externalId);
+    }
+
+    @Test
+    @DisplayName("getUserId() - Should publish hit and miss counters")
+    void getUserId_ShouldRecordHitAndMissMetrics() {
+        // Given
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.empty());
+
+        // When
+        userIdCache.getUserId(externalId);
+        userIdCache.getUserId(externalId);
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+}
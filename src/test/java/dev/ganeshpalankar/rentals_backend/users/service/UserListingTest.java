@@ -0,0 +1,88 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import dev.ganeshpalankar.rentals_backend.common.exception.InvalidCursorException;
+import dev.ganeshpalankar.rentals_backend.common.pagination.CursorPage;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
+@DisplayName("UserService Listing Integration Tests")
+class UserListingTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Test
+    @DisplayName("listUsers() - Should walk every matching user exactly once, newest first")
+    void listUsers_FollowingCursors_ShouldReturnEachUserOnce() throws Exception {
+        // Given: one provisioning batch, so most rows share created_at and the id breaks ties
+        String input = IntStream.range(0, 45)
+                .mapToObj(i -> "listing|walk-" + i)
+                .collect(Collectors.joining("\n"));
+        userProvisioningService.provision(new StringReader(input));
+
+        // When
+        List<User> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<User> page = userService.listUsers("listing|walk-", cursor, 10);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(5);
+        assertThat(seen).hasSize(45);
+        assertThat(seen).extracting(User::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < seen.size(); i++) {
+            User previous = seen.get(i - 1);
+            User current = seen.get(i);
+            assertThat(current.getCreatedAt()).isBeforeOrEqualTo(previous.getCreatedAt());
+            if (current.getCreatedAt().equals(previous.getCreatedAt())) {
+                assertThat(current.getId()).isLessThan(previous.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("listUsers() - Should cap the page size and treat the prefix literally")
+    void listUsers_WithLargePageSizeAndWildcardPrefix_ShouldCapAndEscape() throws Exception {
+        // Given
+        String input = IntStream.range(0, 120)
+                .mapToObj(i -> "listing|cap_" + i)
+                .collect(Collectors.joining("\n"));
+        userProvisioningService.provision(new StringReader(input + "\nlisting|capX1"));
+
+        // When
+        CursorPage<User> page = userService.listUsers("listing|cap_", null, 10_000);
+
+        // Then
+        assertThat(page.getItems()).hasSize(100);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getItems()).extracting(User::getExternalId).allMatch(id -> id.startsWith("listing|cap_"));
+    }
+
+    @Test
+    @DisplayName("listUsers() - Should reject a malformed cursor")
+    void listUsers_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        assertThatThrownBy(() -> userService.listUsers(null, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
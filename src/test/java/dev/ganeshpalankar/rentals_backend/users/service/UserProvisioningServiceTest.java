@@ -0,0 +1,136 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import dev.ganeshpalankar.rentals_backend.users.dto.BulkProvisioningResult;
+import dev.ganeshpalankar.rentals_backend.users.event.UserSignedUp;
+import dev.ganeshpalankar.rentals_backend.users.model.User;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json",
+        "rentals.outbox.relay-enabled=false"
+})
+@DisplayName("UserProvisioningService Integration Tests")
+class UserProvisioningServiceTest {
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @DisplayName("provision() - Should insert new users across several batches and skip existing ones")
+    void provision_WithNewAndExistingIds_ShouldReportCreatedAndSkipped() throws Exception {
+        // Given
+        userService.signup("legacy|existing-0");
+        userService.signup("legacy|existing-1");
+        String input = IntStream.range(0, 2500)
+                .mapToObj(i -> "legacy|import-" + i)
+                .collect(Collectors.joining("\n"))
+                + "\nlegacy|existing-0\n\n  legacy|existing-1  \nlegacy|import-7\n";
+
+        // When
+        BulkProvisioningResult result = userProvisioningService.provision(new StringReader(input));
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(2500);
+        assertThat(result.getSkipped()).isEqualTo(3);
+        assertThat(userRepository.findByExternalId("legacy|import-2499")).isPresent();
+    }
+
+    @Test
+    @DisplayName("provision() - Should skip everything when run twice with the same input")
+    void provision_RunTwice_ShouldBeIdempotent() throws Exception {
+        // Given
+        String input = "legacy|repeat-a\nlegacy|repeat-b\n";
+        userProvisioningService.provision(new StringReader(input));
+
+        // When
+        BulkProvisioningResult result = userProvisioningService.provision(new StringReader(input));
+
+        // Then
+        assertThat(result.getCreated()).isZero();
+        assertThat(result.getSkipped()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("provision() - Should append a signed-up event for each created user only")
+    void provision_ShouldAppendEventsForCreatedUsers() throws Exception {
+        // Given
+        User existing = userService.signup("legacy|events-existing");
+        String input = "legacy|events-a\nlegacy|events-b\nlegacy|events-existing\n";
+
+        // When
+        userProvisioningService.provision(new StringReader(input));
+
+        // Then
+        Long a = userRepository.findByExternalId("legacy|events-a").orElseThrow().getId();
+        Long b = userRepository.findByExternalId("legacy|events-b").orElseThrow().getId();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT aggregate_id FROM outbox_events WHERE event_type = ? AND aggregate_id IN (?, ?, ?)",
+                String.class, UserSignedUp.EVENT_TYPE, String.valueOf(a), String.valueOf(b),
+                String.valueOf(existing.getId())))
+                .containsExactlyInAnyOrder(String.valueOf(a), String.valueOf(b), String.valueOf(existing.getId()));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT payload FROM outbox_events WHERE event_type = ? AND aggregate_id = ?",
+                String.class, UserSignedUp.EVENT_TYPE, String.valueOf(a)))
+                .contains("\"externalId\":\"legacy|events-a\"");
+    }
+
+    @Test
+    @DisplayName("provision() - Should retry a chunk until it no longer conflicts with concurrent signups")
+    void provision_WithRepeatedConcurrentSignups_ShouldSkipEachOne() throws Exception {
+        // Given: a different ID of the chunk is signed up right after each of the first two existence checks
+        List<String> racing = new ArrayList<>(List.of("legacy|race-a", "legacy|race-b"));
+        doAnswer(invocation -> {
+            Object existing = invocation.callRealMethod();
+            if (!racing.isEmpty()) {
+                String externalId = racing.removeFirst();
+                // On another thread, so the signup commits on its own
+                CompletableFuture.runAsync(() -> userService.signup(externalId)).join();
+            }
+            return existing;
+        }).when(namedParameterJdbcTemplate).queryForList(
+                startsWith("SELECT external_id FROM users"), any(SqlParameterSource.class), eq(String.class));
+
+        // When
+        BulkProvisioningResult result = userProvisioningService.provision(
+                new StringReader("legacy|race-a\nlegacy|race-b\nlegacy|race-c\n"));
+
+        // Then
+        assertThat(racing).isEmpty();
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(userRepository.findByExternalId("legacy|race-c")).isPresent();
+    }
+}
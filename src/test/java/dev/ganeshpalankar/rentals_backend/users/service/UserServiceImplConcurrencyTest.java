@@ -0,0 +1,70 @@
+package dev.ganeshpalankar.rentals_backend.users.service;
+
+import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsException;
+import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/.well-known/jwks.json")
+@DisplayName("UserServiceImpl Concurrency Tests")
+class UserServiceImplConcurrencyTest {
+
+    private static final int CONCURRENT_SIGNUPS = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("signup() - Should create exactly one user for a burst of signups with the same externalId")
+    void signup_WithConcurrentRequestsForSameUser_ShouldCreateOneUser() throws Exception {
+        // Given
+        String externalId = "auth0|concurrent-signup";
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SIGNUPS);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < CONCURRENT_SIGNUPS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        userService.signup(externalId);
+                        return true;
+                    } catch (UserAlreadyExistsException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                // Any other exception fails the test here
+                if (result.get()) {
+                    created++;
+                }
+            }
+
+            // Then
+            assertThat(created).isEqualTo(1);
+            assertThat(userRepository.findByExternalId(externalId)).isPresent();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package dev.ganeshpalankar.rentals_backend.users.service;
 
+import dev.ganeshpalankar.rentals_backend.common.datasource.ReadYourWritesTracker;
+import dev.ganeshpalankar.rentals_backend.common.outbox.Outbox;
+import dev.ganeshpalankar.rentals_backend.users.event.UserSignedUp;
 import dev.ganeshpalankar.rentals_backend.users.exception.UserAlreadyExistsException;
 import dev.ganeshpalankar.rentals_backend.users.model.User;
 import dev.ganeshpalankar.rentals_backend.users.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,13 +14,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,15 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserIdCache userIdCache;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private Outbox outbox;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -47,8 +63,7 @@ class UserServiceImplTest {
     @DisplayName("signup() - Should successfully create user with valid externalId")
     void signup_WithValidExternalId_ShouldCreateUser() {
         // Given
-        when(userRepository.existsByExternalId(validExternalId)).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         // When
         User result = userService.signup(validExternalId);
@@ -58,23 +73,43 @@ class UserServiceImplTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getExternalId()).isEqualTo(validExternalId);
 
-        verify(userRepository).existsByExternalId(validExternalId);
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByExternalId(anyString());
+        verify(userIdCache).put(validExternalId, 1L);
+        verify(readYourWritesTracker).recordWrite(validExternalId);
+        verify(outbox).append(eq(UserSignedUp.AGGREGATE_TYPE), eq(1L), eq(UserSignedUp.EVENT_TYPE),
+                any(UserSignedUp.class));
     }
 
     @Test
-    @DisplayName("signup() - Should throw UserAlreadyExistsException when user exists")
+    @DisplayName("signup() - Should throw UserAlreadyExistsException when the unique constraint is violated")
     void signup_WhenUserExists_ShouldThrowUserAlreadyExistsException() {
         // Given
-        when(userRepository.existsByExternalId(validExternalId)).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(constraintViolation("PUBLIC.UK_USERS_EXTERNAL_ID_INDEX_4"));
 
         // When & Then
         assertThatThrownBy(() -> userService.signup(validExternalId))
                 .isInstanceOf(UserAlreadyExistsException.class)
                 .hasFieldOrPropertyWithValue("externalId", validExternalId);
 
-        verify(userRepository).existsByExternalId(validExternalId);
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(userIdCache, never()).put(anyString(), any());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    @DisplayName("signup() - Should rethrow a violation of any constraint other than the unique external_id")
+    void signup_WhenAnotherConstraintIsViolated_ShouldRethrow() {
+        // Given
+        DataIntegrityViolationException violation = constraintViolation("users_created_at_not_null");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.signup(validExternalId)).isSameAs(violation);
+
+        verify(userIdCache, never()).put(anyString(), any());
+        verifyNoInteractions(outbox);
     }
 
     @Test
@@ -85,8 +120,7 @@ class UserServiceImplTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("External ID cannot be null or empty");
 
-        verify(userRepository, never()).existsByExternalId(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -97,8 +131,7 @@ class UserServiceImplTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("External ID cannot be null or empty");
 
-        verify(userRepository, never()).existsByExternalId(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -109,16 +142,14 @@ class UserServiceImplTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("External ID cannot be null or empty");
 
-        verify(userRepository, never()).existsByExternalId(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
     @DisplayName("signup() - Should save user with externalId set correctly")
     void signup_ShouldSaveUserWithCorrectExternalId() {
         // Given
-        when(userRepository.existsByExternalId(validExternalId)).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
             user.setId(1L);
             return user;
@@ -128,7 +159,7 @@ class UserServiceImplTest {
         User result = userService.signup(validExternalId);
 
         // Then
-        verify(userRepository).save(argThat(user ->
+        verify(userRepository).saveAndFlush(argThat(user ->
             user.getExternalId().equals(validExternalId)
         ));
     }
@@ -195,4 +226,10 @@ class UserServiceImplTest {
         assertThat(result).isFalse();
         verify(userRepository).existsByExternalId(validExternalId);
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("constraint violated"), constraintName));
+    }
+}